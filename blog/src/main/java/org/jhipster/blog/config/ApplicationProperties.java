@@ -1,5 +1,10 @@
 package org.jhipster.blog.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,9 +15,130 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Spa spa = new Spa();
+
+    private final BlogExport blogExport = new BlogExport();
+
+    private final Cache cache = new Cache();
+
+    private final UserSync userSync = new UserSync();
+
     // jhipster-needle-application-properties-property
 
+    public Spa getSpa() {
+        return spa;
+    }
+
+    public BlogExport getBlogExport() {
+        return blogExport;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public UserSync getUserSync() {
+        return userSync;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
+    public static class Spa {
+
+        // Paths starting with these prefixes are never forwarded to the client index.html
+        private List<String> excludedPrefixes = new ArrayList<>(List.of("/api", "/management", "/v3/api-docs"));
+
+        public List<String> getExcludedPrefixes() {
+            return excludedPrefixes;
+        }
+
+        public void setExcludedPrefixes(List<String> excludedPrefixes) {
+            this.excludedPrefixes = excludedPrefixes;
+        }
+    }
+
+    public static class BlogExport {
+
+        private int batchSize = 500;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+    public static class Cache {
+
+        // Whether each instance keeps a near cache of the domain maps, invalidated when the cluster changes them
+        private boolean nearCache = false;
+
+        // Settings of some domain maps by name, overriding the time to live of jhipster.cache.hazelcast
+        private Map<String, DomainMap> maps = new LinkedHashMap<>();
+
+        public boolean isNearCache() {
+            return nearCache;
+        }
+
+        public void setNearCache(boolean nearCache) {
+            this.nearCache = nearCache;
+        }
+
+        public Map<String, DomainMap> getMaps() {
+            return maps;
+        }
+
+        public void setMaps(Map<String, DomainMap> maps) {
+            this.maps = maps;
+        }
+
+        public static class DomainMap {
+
+            private Integer timeToLiveSeconds;
+
+            // Maximum number of entries on each instance, unlimited if not set
+            private Integer maxSize;
+
+            public Integer getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Integer timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Integer getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(Integer maxSize) {
+                this.maxSize = maxSize;
+            }
+        }
+    }
+    public static class UserSync {
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -68,5 +68,48 @@ final class Neo4jMigrations {
         }
     }
 
+    /**
+     * Create the uniqueness constraints backing the id and login lookups, and the indexes used by the list queries.
+     */
+    static class V0002__CreateIndexesAndConstraints implements JavaBasedMigration {
+
+        private static final List<String> STATEMENTS = List.of(
+            "CREATE CONSTRAINT post_id IF NOT EXISTS FOR (n:post) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT blog_id IF NOT EXISTS FOR (n:blog) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT tag_id IF NOT EXISTS FOR (n:tag) REQUIRE n.id IS UNIQUE",
+            "CREATE CONSTRAINT jhi_user_user_id IF NOT EXISTS FOR (n:jhi_user) REQUIRE n.user_id IS UNIQUE",
+            "CREATE CONSTRAINT jhi_user_login IF NOT EXISTS FOR (n:jhi_user) REQUIRE n.login IS UNIQUE",
+            "CREATE CONSTRAINT jhi_authority_name IF NOT EXISTS FOR (n:jhi_authority) REQUIRE n.name IS UNIQUE",
+            // Tag names are not unique in existing data, so they are only indexed
+            "CREATE INDEX tag_name IF NOT EXISTS FOR (n:tag) ON (n.name)",
+            "CREATE INDEX post_date IF NOT EXISTS FOR (n:post) ON (n.date)"
+        );
+
+        @Override
+        public void apply(MigrationContext context) {
+            try (Session session = context.getSession()) {
+                // Schema changes can't be mixed with other writes, so each one runs in its own transaction
+                for (String statement : STATEMENTS) {
+                    session.run(statement).consume();
+                }
+            }
+        }
+    }
+
+    /**
+     * Create the full-text index used to search posts by title and content, and wait until it is online.
+     */
+    static class V0003__CreatePostFullTextIndex implements JavaBasedMigration {
+
+        @Override
+        public void apply(MigrationContext context) {
+            try (Session session = context.getSession()) {
+                session.run("CREATE FULLTEXT INDEX post_title_content IF NOT EXISTS FOR (n:post) ON EACH [n.title, n.content]").consume();
+                // The index is populated asynchronously and can't be queried before it is online
+                session.run("CALL db.awaitIndex('post_title_content')").consume();
+            }
+        }
+    }
+
     private Neo4jMigrations() {}
 }
@@ -1,11 +1,274 @@
 package org.jhipster.blog.repository;
 
+import static org.jhipster.blog.repository.CypherSupport.nullableString;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.User;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data Neo4j repository for the Blog entity.
  */
 @Repository
-public interface BlogRepository extends Neo4jRepository<Blog, String> {}
+public interface BlogRepository extends Neo4jRepository<Blog, String>, BlogRepositoryInternal {
+    String BLOGS_CACHE = "org.jhipster.blog.domain.Blog";
+
+    String BLOG_PAGES_CACHE = "org.jhipster.blog.domain.Blog.pages";
+
+    @Override
+    @Cacheable(cacheNames = BLOGS_CACHE)
+    Optional<Blog> findById(String id);
+
+    @Override
+    @Cacheable(cacheNames = BLOG_PAGES_CACHE, key = "#pageable")
+    Page<Blog> findAllWithUser(Pageable pageable);
+
+    @Override
+    @EvictContentCaches
+    <S extends Blog> S save(S entity);
+
+    @Override
+    @EvictContentCaches
+    <S extends Blog> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @EvictContentCaches
+    Blog create(Blog blog);
+
+    @Override
+    @EvictContentCaches
+    Optional<Blog> update(Blog blog);
+
+    @Override
+    @EvictContentCaches
+    Optional<Blog> partialUpdate(Blog blog);
+
+    @Override
+    @EvictContentCaches
+    void deleteById(String id);
+
+    @Override
+    @EvictContentCaches
+    void delete(Blog entity);
+
+    @Override
+    @EvictContentCaches
+    void deleteAllById(Iterable<? extends String> ids);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll(Iterable<? extends Blog> entities);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll();
+}
+
+interface BlogRepositoryInternal {
+    /**
+     * Gets a page of blogs with their user, which only carries its id and login.
+     *
+     * @param pageable the pagination information.
+     * @return the page of blogs.
+     */
+    Page<Blog> findAllWithUser(Pageable pageable);
+
+    /**
+     * Gets the blogs following a given id, ordered by id, with their user which only carries its id and login.
+     * <p>
+     * This keyset pagination reads every blog once, whatever the number of blogs read before.
+     *
+     * @param afterId the id of the last blog already read, {@code null} to start with the first blog.
+     * @param limit the maximum number of blogs.
+     * @return the blogs.
+     */
+    List<Blog> findAllWithUserAfter(@Nullable String afterId, int limit);
+
+    /**
+     * Creates a blog in a single statement, with a generated id.
+     * Only the id and the login of the user are used: an existing user node is linked as is, a missing one is created
+     * with only these properties.
+     *
+     * @param blog the blog to create.
+     * @return the created blog.
+     */
+    Blog create(Blog blog);
+
+    /**
+     * Replaces the properties and the user of an existing blog in a single statement.
+     * Only the id and the login of the user are used: an existing user node is linked as is, a missing one is created
+     * with only these properties.
+     *
+     * @param blog the blog to update.
+     * @return the updated blog, or empty if there is no blog with this id.
+     */
+    Optional<Blog> update(Blog blog);
+
+    /**
+     * Sets the non-null properties of an existing blog in a single statement, leaving its user unchanged.
+     *
+     * @param blog the blog to update.
+     * @return the updated blog, or empty if there is no blog with this id.
+     */
+    Optional<Blog> partialUpdate(Blog blog);
+}
+
+class BlogRepositoryInternalImpl implements BlogRepositoryInternal {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "handle");
+
+    private static final String RETURN_BLOG =
+        "RETURN n.id AS id, n.name AS name, n.handle AS handle, head([(n)-[:HAS_USER]->(u:jhi_user) | u {.user_id, .login}]) AS user";
+
+    // The user node is merged, so that the blog is linked to its user even if the node was removed in the meantime
+    private static final String LINK_USER =
+        "CALL { WITH n UNWIND $userIds AS userId MERGE (u:jhi_user {user_id: userId}) ON CREATE SET u.login = $userLogin " +
+        "MERGE (n)-[:HAS_USER]->(u) } ";
+
+    private static final String CREATE_QUERY =
+        "CREATE (n:blog {id: $id, name: $name, handle: $handle}) " +
+        "WITH n " +
+        LINK_USER +
+        "WITH n " +
+        RETURN_BLOG;
+
+    private static final String UPDATE_QUERY =
+        "MATCH (n:blog {id: $id}) " +
+        "SET n.name = $name, n.handle = $handle " +
+        "WITH n " +
+        "CALL { WITH n MATCH (n)-[r:HAS_USER]->() DELETE r } " +
+        LINK_USER +
+        "WITH n " +
+        RETURN_BLOG;
+
+    private static final String PARTIAL_UPDATE_QUERY =
+        "MATCH (n:blog {id: $id}) SET n.name = coalesce($name, n.name), n.handle = coalesce($handle, n.handle) WITH n " + RETURN_BLOG;
+
+    private final Neo4jClient neo4jClient;
+
+    BlogRepositoryInternalImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Page<Blog> findAllWithUser(Pageable pageable) {
+        String query =
+            "MATCH (n:blog) WITH n " +
+            CypherSupport.orderBy(pageable, "n", SORTABLE_PROPERTIES) +
+            CypherSupport.skipLimit(pageable) +
+            " " +
+            RETURN_BLOG;
+        List<Blog> blogs = List.copyOf(
+            neo4jClient
+                .query(query)
+                .bindAll(CypherSupport.pageParameters(pageable))
+                .fetchAs(Blog.class)
+                .mappedBy((typeSystem, record) -> toBlog(record))
+                .all()
+        );
+        return PageableExecutionUtils.getPage(blogs, pageable, () ->
+            neo4jClient.query("MATCH (n:blog) RETURN count(n)").fetchAs(Long.class).one().orElse(0L)
+        );
+    }
+
+    @Override
+    public List<Blog> findAllWithUserAfter(@Nullable String afterId, int limit) {
+        // The range predicate is only added when needed, so that the planner can seek the id index
+        String query =
+            "MATCH (n:blog) " + (afterId == null ? "" : "WHERE n.id > $afterId ") + "WITH n ORDER BY n.id ASC LIMIT $limit " + RETURN_BLOG;
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("afterId", afterId);
+        parameters.put("limit", limit);
+        return List.copyOf(
+            neo4jClient
+                .query(query)
+                .bindAll(parameters)
+                .fetchAs(Blog.class)
+                .mappedBy((typeSystem, record) -> toBlog(record))
+                .all()
+        );
+    }
+
+    @Override
+    public Blog create(Blog blog) {
+        Map<String, Object> parameters = properties(blog);
+        // Same ids as the UUIDStringGenerator of the entity
+        parameters.put("id", UUID.randomUUID().toString());
+        parameters.putAll(userParameters(blog));
+        return neo4jClient
+            .query(CREATE_QUERY)
+            .bindAll(parameters)
+            .fetchAs(Blog.class)
+            .mappedBy((typeSystem, record) -> toBlog(record))
+            .one()
+            .orElseThrow();
+    }
+
+    @Override
+    public Optional<Blog> update(Blog blog) {
+        Map<String, Object> parameters = properties(blog);
+        parameters.putAll(userParameters(blog));
+        return neo4jClient
+            .query(UPDATE_QUERY)
+            .bindAll(parameters)
+            .fetchAs(Blog.class)
+            .mappedBy((typeSystem, record) -> toBlog(record))
+            .one();
+    }
+
+    @Override
+    public Optional<Blog> partialUpdate(Blog blog) {
+        return neo4jClient
+            .query(PARTIAL_UPDATE_QUERY)
+            .bindAll(properties(blog))
+            .fetchAs(Blog.class)
+            .mappedBy((typeSystem, record) -> toBlog(record))
+            .one();
+    }
+
+    private static Map<String, Object> properties(Blog blog) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", blog.getId());
+        parameters.put("name", blog.getName());
+        parameters.put("handle", blog.getHandle());
+        return parameters;
+    }
+
+    private static Map<String, Object> userParameters(Blog blog) {
+        User user = blog.getUser();
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("userIds", user == null || user.getId() == null ? List.of() : List.of(user.getId()));
+        parameters.put("userLogin", user == null ? null : user.getLogin());
+        return parameters;
+    }
+
+    private static Blog toBlog(Record record) {
+        Blog blog = new Blog()
+            .id(record.get("id").asString())
+            .name(nullableString(record.get("name")))
+            .handle(nullableString(record.get("handle")));
+        Value user = record.get("user");
+        if (!user.isNull()) {
+            User blogUser = new User();
+            blogUser.setId(user.get("user_id").asString());
+            blogUser.setLogin(nullableString(user.get("login")));
+            blog.setUser(blogUser);
+        }
+        return blog;
+    }
+}
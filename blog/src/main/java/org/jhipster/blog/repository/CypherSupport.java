@@ -0,0 +1,72 @@
+package org.jhipster.blog.repository;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import org.neo4j.driver.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Helpers shared by the hand-written Cypher queries of the repositories.
+ */
+final class CypherSupport {
+
+    private CypherSupport() {}
+
+    /**
+     * Renders the sort of a page as an {@code ORDER BY} clause on the properties of a node.
+     * <p>
+     * Only the given properties are sorted on, other ones being ignored as they would not match any value, so that
+     * request parameters never end up in the query text. The id of the node is always used last, so that pages are stable.
+     *
+     * @param pageable the pagination information.
+     * @param variable the variable of the sorted node.
+     * @param sortableProperties the properties which can be sorted on.
+     * @return the {@code ORDER BY} clause.
+     */
+    static String orderBy(Pageable pageable, String variable, Set<String> sortableProperties) {
+        StringJoiner orderBy = new StringJoiner(", ", "ORDER BY ", "");
+        boolean sortedById = false;
+        for (Sort.Order order : pageable.getSort()) {
+            if (!sortableProperties.contains(order.getProperty())) {
+                continue;
+            }
+            orderBy.add(variable + "." + order.getProperty() + (order.isAscending() ? " ASC" : " DESC"));
+            sortedById |= "id".equals(order.getProperty());
+        }
+        if (!sortedById) {
+            orderBy.add(variable + ".id ASC");
+        }
+        return orderBy.toString();
+    }
+
+    /**
+     * Renders the {@code SKIP} and {@code LIMIT} clauses of a page, using the {@code $skip} and {@code $limit} parameters.
+     *
+     * @param pageable the pagination information.
+     * @return the clauses, empty if the request is unpaged.
+     */
+    static String skipLimit(Pageable pageable) {
+        return pageable.isPaged() ? " SKIP $skip LIMIT $limit" : "";
+    }
+
+    static Map<String, Object> pageParameters(Pageable pageable) {
+        Map<String, Object> parameters = new HashMap<>();
+        if (pageable.isPaged()) {
+            parameters.put("skip", pageable.getOffset());
+            parameters.put("limit", pageable.getPageSize());
+        }
+        return parameters;
+    }
+
+    static String nullableString(Value value) {
+        return value.isNull() ? null : value.asString();
+    }
+
+    static Instant nullableInstant(Value value) {
+        return value.isNull() ? null : value.asZonedDateTime().toInstant();
+    }
+}
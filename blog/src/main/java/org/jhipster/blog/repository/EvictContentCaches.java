@@ -0,0 +1,31 @@
+package org.jhipster.blog.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.cache.annotation.CacheEvict;
+
+/**
+ * Evicts all the cached posts, blogs and tags, their cached pages and the tag stats, once the annotated write is done.
+ * <p>
+ * Each of these entities is cached with the properties of the others it is related to, so a write to any of them
+ * evicts them all.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@CacheEvict(
+    cacheNames = {
+        PostRepository.POSTS_CACHE,
+        PostRepository.POST_PAGES_CACHE,
+        BlogRepository.BLOGS_CACHE,
+        BlogRepository.BLOG_PAGES_CACHE,
+        TagRepository.TAGS_CACHE,
+        TagRepository.TAG_PAGES_CACHE,
+        TagRepository.TAG_STATS_CACHE,
+    },
+    allEntries = true
+)
+public @interface EvictContentCaches {}
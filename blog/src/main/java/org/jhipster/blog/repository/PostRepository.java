@@ -1,11 +1,295 @@
 package org.jhipster.blog.repository;
 
+import static org.jhipster.blog.repository.CypherSupport.nullableInstant;
+import static org.jhipster.blog.repository.CypherSupport.nullableString;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.jhipster.blog.domain.Blog;
 import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data Neo4j repository for the Post entity.
  */
 @Repository
-public interface PostRepository extends Neo4jRepository<Post, String> {}
+public interface PostRepository extends Neo4jRepository<Post, String>, PostRepositoryInternal {
+    String POSTS_CACHE = "org.jhipster.blog.domain.Post";
+
+    String POST_PAGES_CACHE = "org.jhipster.blog.domain.Post.pages";
+
+    @Override
+    @Cacheable(cacheNames = POSTS_CACHE)
+    Optional<Post> findById(String id);
+
+    @Override
+    @Cacheable(cacheNames = POST_PAGES_CACHE, key = "{#pageable, #summary}")
+    Page<Post> findAllWithRelationships(Pageable pageable, boolean summary);
+
+    @Override
+    @EvictContentCaches
+    <S extends Post> S save(S entity);
+
+    @Override
+    @EvictContentCaches
+    <S extends Post> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @EvictContentCaches
+    Optional<Post> update(Post post);
+
+    @Override
+    @EvictContentCaches
+    Optional<Post> partialUpdate(Post post);
+
+    @Override
+    @EvictContentCaches
+    void deleteById(String id);
+
+    @Override
+    @EvictContentCaches
+    void delete(Post entity);
+
+    @Override
+    @EvictContentCaches
+    void deleteAllById(Iterable<? extends String> ids);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll(Iterable<? extends Post> entities);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll();
+}
+
+interface PostRepositoryInternal {
+    /**
+     * Gets a page of posts with their blog and tags, which only carry their own properties.
+     *
+     * @param pageable the pagination information.
+     * @param summary whether the content of the posts is left out.
+     * @return the page of posts.
+     */
+    Page<Post> findAllWithRelationships(Pageable pageable, boolean summary);
+
+    /**
+     * Gets a page of the posts of a tag in a single statement, with their blog and tags but without their content.
+     *
+     * @param tagId the id of the tag.
+     * @param pageable the pagination information.
+     * @return the page of posts, empty if there is no tag with this id.
+     */
+    Page<Post> findAllByTag(String tagId, Pageable pageable);
+
+    /**
+     * Searches posts by title and content with the {@code post_title_content} full-text index, the most relevant first.
+     * The search terms are matched as words: the Lucene query syntax is not supported.
+     *
+     * @param query the search terms.
+     * @param pageable the pagination information, its sort is ignored.
+     * @return the page of matching posts, with their blog and tags but without their content.
+     */
+    Page<PostSearchHit> search(String query, Pageable pageable);
+
+    /**
+     * Replaces the properties, the blog and the tags of an existing post in a single statement.
+     * Only the ids of the blog and the tags are used, and they are only linked if they exist.
+     *
+     * @param post the post to update.
+     * @return the updated post, or empty if there is no post with this id.
+     */
+    Optional<Post> update(Post post);
+
+    /**
+     * Sets the non-null properties of an existing post in a single statement, leaving its relationships unchanged.
+     *
+     * @param post the post to update.
+     * @return the updated post, or empty if there is no post with this id.
+     */
+    Optional<Post> partialUpdate(Post post);
+}
+
+class PostRepositoryInternalImpl implements PostRepositoryInternal {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "title", "content", "date");
+
+    // The blog and the tags are each fetched with a single pattern comprehension, the blog user is never loaded
+    private static final String RETURN_POST =
+        "RETURN n.id AS id, n.title AS title, CASE WHEN $summary THEN null ELSE n.content END AS content, n.date AS date, " +
+        "head([(n)-[:HAS_BLOG]->(b:blog) | b {.id, .name, .handle}]) AS blog, " +
+        "[(n)-[:HAS_TAG]->(t:tag) | t {.id, .name}] AS tags";
+
+    private static final String FIND_ALL_QUERY = "MATCH (n:post) WITH n %s%s " + RETURN_POST;
+
+    private static final String FIND_ALL_BY_TAG_QUERY = "MATCH (:tag {id: $tagId})<-[:HAS_TAG]-(n:post) WITH n %s%s " + RETURN_POST;
+
+    private static final String COUNT_BY_TAG_QUERY = "MATCH (t:tag {id: $tagId}) RETURN COUNT { (t)<-[:HAS_TAG]-(:post) }";
+
+    private static final String SEARCH_QUERY =
+        "CALL db.index.fulltext.queryNodes('post_title_content', $query) YIELD node, score " +
+        "WITH node AS n, score ORDER BY score DESC, n.id ASC%s " +
+        RETURN_POST +
+        ", score";
+
+    private static final String SEARCH_COUNT_QUERY =
+        "CALL db.index.fulltext.queryNodes('post_title_content', $query) YIELD node RETURN count(node)";
+
+    private static final Pattern LUCENE_SPECIAL_CHARACTERS = Pattern.compile("[+\\-&|!(){}\\[\\]^\"~*?:\\\\/]");
+
+    private static final String UPDATE_QUERY =
+        "MATCH (n:post {id: $id}) " +
+        "SET n.title = $title, n.content = $content, n.date = $date " +
+        "WITH n " +
+        "CALL { WITH n MATCH (n)-[r:HAS_BLOG|HAS_TAG]->() DELETE r } " +
+        "CALL { WITH n MATCH (b:blog {id: $blogId}) MERGE (n)-[:HAS_BLOG]->(b) } " +
+        "CALL { WITH n UNWIND $tagIds AS tagId MATCH (t:tag {id: tagId}) MERGE (n)-[:HAS_TAG]->(t) } " +
+        "WITH n " +
+        RETURN_POST;
+
+    private static final String PARTIAL_UPDATE_QUERY =
+        "MATCH (n:post {id: $id}) " +
+        "SET n.title = coalesce($title, n.title), n.content = coalesce($content, n.content), n.date = coalesce($date, n.date) " +
+        "WITH n " +
+        RETURN_POST;
+
+    private final Neo4jClient neo4jClient;
+
+    PostRepositoryInternalImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Page<Post> findAllWithRelationships(Pageable pageable, boolean summary) {
+        Map<String, Object> parameters = CypherSupport.pageParameters(pageable);
+        parameters.put("summary", summary);
+        String query = String.format(
+            FIND_ALL_QUERY,
+            CypherSupport.orderBy(pageable, "n", SORTABLE_PROPERTIES),
+            CypherSupport.skipLimit(pageable)
+        );
+        List<Post> posts = List.copyOf(
+            neo4jClient
+                .query(query)
+                .bindAll(parameters)
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toPost(record))
+                .all()
+        );
+        return PageableExecutionUtils.getPage(posts, pageable, () ->
+            neo4jClient.query("MATCH (n:post) RETURN count(n)").fetchAs(Long.class).one().orElse(0L)
+        );
+    }
+
+    @Override
+    public Page<Post> findAllByTag(String tagId, Pageable pageable) {
+        Map<String, Object> parameters = CypherSupport.pageParameters(pageable);
+        parameters.put("summary", true);
+        parameters.put("tagId", tagId);
+        String query = String.format(
+            FIND_ALL_BY_TAG_QUERY,
+            CypherSupport.orderBy(pageable, "n", SORTABLE_PROPERTIES),
+            CypherSupport.skipLimit(pageable)
+        );
+        List<Post> posts = List.copyOf(
+            neo4jClient
+                .query(query)
+                .bindAll(parameters)
+                .fetchAs(Post.class)
+                .mappedBy((typeSystem, record) -> toPost(record))
+                .all()
+        );
+        return PageableExecutionUtils.getPage(posts, pageable, () ->
+            neo4jClient.query(COUNT_BY_TAG_QUERY).bind(tagId).to("tagId").fetchAs(Long.class).one().orElse(0L)
+        );
+    }
+
+    @Override
+    public Page<PostSearchHit> search(String query, Pageable pageable) {
+        if (query.isBlank()) {
+            return Page.empty(pageable);
+        }
+        Map<String, Object> parameters = CypherSupport.pageParameters(pageable);
+        parameters.put("summary", true);
+        // Lower case terms are never read as AND, OR or NOT operators, and the index analyzer lower cases them anyway
+        parameters.put("query", LUCENE_SPECIAL_CHARACTERS.matcher(query.toLowerCase(Locale.ROOT)).replaceAll("\\\\$0"));
+        List<PostSearchHit> hits = List.copyOf(
+            neo4jClient
+                .query(String.format(SEARCH_QUERY, CypherSupport.skipLimit(pageable)))
+                .bindAll(parameters)
+                .fetchAs(PostSearchHit.class)
+                .mappedBy((typeSystem, record) -> new PostSearchHit(toPost(record), record.get("score").asDouble()))
+                .all()
+        );
+        return PageableExecutionUtils.getPage(hits, pageable, () ->
+            neo4jClient.query(SEARCH_COUNT_QUERY).bindAll(parameters).fetchAs(Long.class).one().orElse(0L)
+        );
+    }
+
+    @Override
+    public Optional<Post> update(Post post) {
+        Map<String, Object> parameters = properties(post);
+        parameters.put("blogId", post.getBlog() == null ? null : post.getBlog().getId());
+        parameters.put("tagIds", post.getTags() == null ? List.of() : post.getTags().stream().map(Tag::getId).toList());
+        return neo4jClient
+            .query(UPDATE_QUERY)
+            .bindAll(parameters)
+            .fetchAs(Post.class)
+            .mappedBy((typeSystem, record) -> toPost(record))
+            .one();
+    }
+
+    @Override
+    public Optional<Post> partialUpdate(Post post) {
+        return neo4jClient
+            .query(PARTIAL_UPDATE_QUERY)
+            .bindAll(properties(post))
+            .fetchAs(Post.class)
+            .mappedBy((typeSystem, record) -> toPost(record))
+            .one();
+    }
+
+    private static Map<String, Object> properties(Post post) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", post.getId());
+        parameters.put("title", post.getTitle());
+        parameters.put("content", post.getContent());
+        parameters.put("date", post.getDate());
+        parameters.put("summary", false);
+        return parameters;
+    }
+
+    private static Post toPost(Record record) {
+        Post post = new Post()
+            .id(record.get("id").asString())
+            .title(nullableString(record.get("title")))
+            .content(nullableString(record.get("content")))
+            .date(nullableInstant(record.get("date")));
+        Value blog = record.get("blog");
+        if (!blog.isNull()) {
+            post.setBlog(
+                new Blog().id(blog.get("id").asString()).name(nullableString(blog.get("name"))).handle(nullableString(blog.get("handle")))
+            );
+        }
+        Set<Tag> tags = new HashSet<>(
+            record.get("tags").asList(tag -> new Tag().id(tag.get("id").asString()).name(nullableString(tag.get("name"))))
+        );
+        post.setTags(tags);
+        return post;
+    }
+}
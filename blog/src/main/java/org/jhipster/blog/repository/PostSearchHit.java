@@ -0,0 +1,11 @@
+package org.jhipster.blog.repository;
+
+import org.jhipster.blog.domain.Post;
+
+/**
+ * A post matching a full-text search, without its content.
+ *
+ * @param post the post, with its blog and tags.
+ * @param score the relevance of the post for the search, higher is better.
+ */
+public record PostSearchHit(Post post, double score) {}
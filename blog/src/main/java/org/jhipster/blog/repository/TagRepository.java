@@ -1,11 +1,215 @@
 package org.jhipster.blog.repository;
 
+import static org.jhipster.blog.repository.CypherSupport.nullableString;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.jhipster.blog.domain.Post;
 import org.jhipster.blog.domain.Tag;
+import org.neo4j.driver.Record;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data Neo4j repository for the Tag entity.
  */
 @Repository
-public interface TagRepository extends Neo4jRepository<Tag, String> {}
+public interface TagRepository extends Neo4jRepository<Tag, String>, TagRepositoryInternal {
+    String TAGS_CACHE = "org.jhipster.blog.domain.Tag";
+
+    String TAG_PAGES_CACHE = "org.jhipster.blog.domain.Tag.pages";
+
+    String TAG_STATS_CACHE = "org.jhipster.blog.domain.Tag.stats";
+
+    @Override
+    @Cacheable(cacheNames = TAGS_CACHE)
+    Optional<Tag> findById(String id);
+
+    @Override
+    @Cacheable(cacheNames = TAG_PAGES_CACHE, key = "#pageable")
+    Page<Tag> findAllWithPosts(Pageable pageable);
+
+    @Override
+    @Cacheable(cacheNames = TAG_STATS_CACHE, key = "'all'")
+    List<TagStats> findAllStats();
+
+    @Override
+    @EvictContentCaches
+    <S extends Tag> S save(S entity);
+
+    @Override
+    @EvictContentCaches
+    <S extends Tag> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @EvictContentCaches
+    Optional<Tag> update(Tag tag);
+
+    @Override
+    @EvictContentCaches
+    Optional<Tag> partialUpdate(Tag tag);
+
+    @Override
+    @EvictContentCaches
+    void deleteById(String id);
+
+    @Override
+    @EvictContentCaches
+    void delete(Tag entity);
+
+    @Override
+    @EvictContentCaches
+    void deleteAllById(Iterable<? extends String> ids);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll(Iterable<? extends Tag> entities);
+
+    @Override
+    @EvictContentCaches
+    void deleteAll();
+}
+
+interface TagRepositoryInternal {
+    /**
+     * Gets a page of tags with their posts, which only carry their id and title.
+     *
+     * @param pageable the pagination information.
+     * @return the page of tags.
+     */
+    Page<Tag> findAllWithPosts(Pageable pageable);
+
+    /**
+     * Counts the posts of every tag in a single statement, the most used tags first.
+     * The posts are counted from the relationships of each tag, without being read.
+     *
+     * @return the number of posts of each tag, including the tags without posts.
+     */
+    List<TagStats> findAllStats();
+
+    /**
+     * Replaces the name and the posts of an existing tag in a single statement.
+     * Only the ids of the posts are used, and they are only linked if they exist.
+     *
+     * @param tag the tag to update.
+     * @return the updated tag, or empty if there is no tag with this id.
+     */
+    Optional<Tag> update(Tag tag);
+
+    /**
+     * Sets the non-null properties of an existing tag in a single statement, leaving its posts unchanged.
+     *
+     * @param tag the tag to update.
+     * @return the updated tag, or empty if there is no tag with this id.
+     */
+    Optional<Tag> partialUpdate(Tag tag);
+}
+
+class TagRepositoryInternalImpl implements TagRepositoryInternal {
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name");
+
+    private static final String RETURN_TAG = "RETURN n.id AS id, n.name AS name, [(n)<-[:HAS_TAG]-(p:post) | p {.id, .title}] AS posts";
+
+    private static final String FIND_ALL_QUERY = "MATCH (n:tag) WITH n %s%s " + RETURN_TAG;
+
+    private static final String FIND_ALL_STATS_QUERY =
+        "MATCH (n:tag) RETURN n.id AS id, n.name AS name, COUNT { (n)<-[:HAS_TAG]-(:post) } AS postCount ORDER BY postCount DESC, name ASC";
+
+    private static final String UPDATE_QUERY =
+        "MATCH (n:tag {id: $id}) " +
+        "SET n.name = $name " +
+        "WITH n " +
+        "CALL { WITH n MATCH (n)<-[r:HAS_TAG]-() DELETE r } " +
+        "CALL { WITH n UNWIND $postIds AS postId MATCH (p:post {id: postId}) MERGE (p)-[:HAS_TAG]->(n) } " +
+        "WITH n " +
+        RETURN_TAG;
+
+    private static final String PARTIAL_UPDATE_QUERY = "MATCH (n:tag {id: $id}) SET n.name = coalesce($name, n.name) WITH n " + RETURN_TAG;
+
+    private final Neo4jClient neo4jClient;
+
+    TagRepositoryInternalImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public Page<Tag> findAllWithPosts(Pageable pageable) {
+        String query = String.format(
+            FIND_ALL_QUERY,
+            CypherSupport.orderBy(pageable, "n", SORTABLE_PROPERTIES),
+            CypherSupport.skipLimit(pageable)
+        );
+        List<Tag> tags = List.copyOf(
+            neo4jClient
+                .query(query)
+                .bindAll(CypherSupport.pageParameters(pageable))
+                .fetchAs(Tag.class)
+                .mappedBy((typeSystem, record) -> toTag(record))
+                .all()
+        );
+        return PageableExecutionUtils.getPage(tags, pageable, () ->
+            neo4jClient.query("MATCH (n:tag) RETURN count(n)").fetchAs(Long.class).one().orElse(0L)
+        );
+    }
+
+    @Override
+    public List<TagStats> findAllStats() {
+        return List.copyOf(
+            neo4jClient
+                .query(FIND_ALL_STATS_QUERY)
+                .fetchAs(TagStats.class)
+                .mappedBy((typeSystem, record) ->
+                    new TagStats(record.get("id").asString(), nullableString(record.get("name")), record.get("postCount").asLong())
+                )
+                .all()
+        );
+    }
+
+    @Override
+    public Optional<Tag> update(Tag tag) {
+        Map<String, Object> parameters = properties(tag);
+        parameters.put("postIds", tag.getPosts() == null ? List.of() : tag.getPosts().stream().map(Post::getId).toList());
+        return neo4jClient
+            .query(UPDATE_QUERY)
+            .bindAll(parameters)
+            .fetchAs(Tag.class)
+            .mappedBy((typeSystem, record) -> toTag(record))
+            .one();
+    }
+
+    @Override
+    public Optional<Tag> partialUpdate(Tag tag) {
+        return neo4jClient
+            .query(PARTIAL_UPDATE_QUERY)
+            .bindAll(properties(tag))
+            .fetchAs(Tag.class)
+            .mappedBy((typeSystem, record) -> toTag(record))
+            .one();
+    }
+
+    private static Map<String, Object> properties(Tag tag) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", tag.getId());
+        parameters.put("name", tag.getName());
+        return parameters;
+    }
+
+    private static Tag toTag(Record record) {
+        Tag tag = new Tag().id(record.get("id").asString()).name(nullableString(record.get("name")));
+        Set<Post> posts = new HashSet<>(
+            record.get("posts").asList(post -> new Post().id(post.get("id").asString()).title(nullableString(post.get("title"))))
+        );
+        tag.setPosts(posts);
+        return tag;
+    }
+}
@@ -0,0 +1,12 @@
+package org.jhipster.blog.repository;
+
+import java.io.Serializable;
+
+/**
+ * The number of posts of a tag.
+ *
+ * @param id the id of the tag.
+ * @param name the name of the tag.
+ * @param postCount the number of posts with the tag.
+ */
+public record TagStats(String id, String name, long postCount) implements Serializable {}
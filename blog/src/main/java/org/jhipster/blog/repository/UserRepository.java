@@ -1,10 +1,14 @@
 package org.jhipster.blog.repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import org.jhipster.blog.domain.User;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.*;
+import org.springframework.data.neo4j.core.Neo4jClient;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.stereotype.Repository;
 
@@ -12,7 +16,7 @@ import org.springframework.stereotype.Repository;
  * Spring Data Neo4j repository for the {@link User} entity.
  */
 @Repository
-public interface UserRepository extends Neo4jRepository<User, String> {
+public interface UserRepository extends Neo4jRepository<User, String>, UserRepositoryInternal {
     String USERS_BY_LOGIN_CACHE = "usersByLogin";
 
     String USERS_BY_EMAIL_CACHE = "usersByEmail";
@@ -25,3 +29,52 @@ public interface UserRepository extends Neo4jRepository<User, String> {
 
     Page<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
 }
+
+interface UserRepositoryInternal {
+    /**
+     * Makes sure that a user referenced by another entity exists, in a single statement.
+     * A missing user is created with the given properties, an existing user only gets its login updated if it changed:
+     * its other properties and its authorities, which are synced from the IdP, are left untouched.
+     *
+     * @param user the referenced user, which must have an id.
+     * @return whether the login of an existing user was changed.
+     */
+    boolean mergeReference(User user);
+}
+
+class UserRepositoryInternalImpl implements UserRepositoryInternal {
+
+    // The node is only written when it's created or when its login is stale
+    private static final String MERGE_REFERENCE_QUERY =
+        "MERGE (u:jhi_user {user_id: $id}) " +
+        "ON CREATE SET u += $properties " +
+        "WITH u WHERE $login IS NOT NULL AND coalesce(u.login, '') <> $login " +
+        "SET u.login = $login " +
+        "RETURN count(u) > 0";
+
+    private final Neo4jClient neo4jClient;
+
+    UserRepositoryInternalImpl(Neo4jClient neo4jClient) {
+        this.neo4jClient = neo4jClient;
+    }
+
+    @Override
+    public boolean mergeReference(User user) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("login", user.getLogin());
+        properties.put("first_name", user.getFirstName());
+        properties.put("last_name", user.getLastName());
+        properties.put("email", user.getEmail());
+        properties.put("activated", user.isActivated());
+        properties.put("lang_key", user.getLangKey());
+        properties.put("image_url", user.getImageUrl());
+        // Null properties are not set
+        properties.values().removeIf(Objects::isNull);
+
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("id", user.getId());
+        parameters.put("login", user.getLogin());
+        parameters.put("properties", properties);
+        return neo4jClient.query(MERGE_REFERENCE_QUERY).bindAll(parameters).fetchAs(Boolean.class).one().orElse(false);
+    }
+}
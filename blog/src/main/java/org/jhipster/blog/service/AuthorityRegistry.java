@@ -0,0 +1,78 @@
+package org.jhipster.blog.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jhipster.blog.domain.Authority;
+import org.jhipster.blog.repository.AuthorityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Names of the authorities stored in the local database, kept in memory.
+ * <p>
+ * The names are loaded once, then updated when authorities are registered. Authorities are never deleted, and
+ * registering an authority another instance already saved only saves it again, so the set never has to be reloaded.
+ */
+@Service
+public class AuthorityRegistry {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthorityRegistry.class);
+
+    private final AuthorityRepository authorityRepository;
+
+    private volatile Set<String> authorities;
+
+    public AuthorityRegistry(AuthorityRepository authorityRepository) {
+        this.authorityRepository = authorityRepository;
+    }
+
+    /**
+     * Gets the names of all the authorities.
+     *
+     * @return the names of the authorities.
+     */
+    public Set<String> getAuthorities() {
+        Set<String> current = authorities;
+        if (current == null) {
+            current = authorityRepository.findAll().stream().map(Authority::getName).collect(Collectors.toUnmodifiableSet());
+            authorities = current;
+        }
+        return current;
+    }
+
+    /**
+     * Saves the authorities which are not stored yet.
+     *
+     * @param names the names of the authorities.
+     */
+    public void registerAll(Collection<String> names) {
+        if (getAuthorities().containsAll(names)) {
+            return;
+        }
+        synchronized (this) {
+            Set<String> current = getAuthorities();
+            List<Authority> missingAuthorities = names
+                .stream()
+                .filter(name -> !current.contains(name))
+                .distinct()
+                .map(name -> {
+                    LOG.debug("Saving authority '{}' in local database", name);
+                    Authority authority = new Authority();
+                    authority.setName(name);
+                    return authority;
+                })
+                .toList();
+            if (missingAuthorities.isEmpty()) {
+                return;
+            }
+            authorityRepository.saveAll(missingAuthorities);
+            Set<String> updated = new HashSet<>(current);
+            missingAuthorities.forEach(authority -> updated.add(authority.getName()));
+            authorities = Set.copyOf(updated);
+        }
+    }
+}
@@ -1,12 +1,19 @@
 package org.jhipster.blog.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
+import org.jhipster.blog.config.ApplicationProperties;
 import org.jhipster.blog.config.Constants;
 import org.jhipster.blog.domain.Authority;
 import org.jhipster.blog.domain.User;
-import org.jhipster.blog.repository.AuthorityRepository;
+import org.jhipster.blog.repository.BlogRepository;
 import org.jhipster.blog.repository.UserRepository;
 import org.jhipster.blog.security.SecurityUtils;
 import org.jhipster.blog.service.dto.AdminUserDTO;
@@ -21,6 +28,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 
 /**
  * Service class for managing users.
@@ -32,14 +40,44 @@ public class UserService {
 
     private final UserRepository userRepository;
 
-    private final AuthorityRepository authorityRepository;
+    private final AuthorityRegistry authorityRegistry;
 
     private final CacheManager cacheManager;
 
-    public UserService(UserRepository userRepository, AuthorityRepository authorityRepository, CacheManager cacheManager) {
+    // Last synced claims per subject, so that unchanged tokens don't hit the database.
+    // We don't use a distributed cache on purpose: a missing fingerprint only costs one extra sync.
+    private final Cache<String, String> syncFingerprints;
+
+    private final Counter syncWrites;
+
+    // Logins of the users known to exist locally by id, so that entities referencing them don't write them again.
+    private final Cache<String, String> knownUsers;
+
+    public UserService(
+        UserRepository userRepository,
+        AuthorityRegistry authorityRegistry,
+        CacheManager cacheManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
         this.userRepository = userRepository;
-        this.authorityRepository = authorityRepository;
+        this.authorityRegistry = authorityRegistry;
         this.cacheManager = cacheManager;
+        this.syncFingerprints = Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getUserSync().getMaximumSize())
+            .expireAfterWrite(applicationProperties.getUserSync().getTimeToLive())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, syncFingerprints, "userSyncFingerprints");
+        this.knownUsers = Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getUserSync().getMaximumSize())
+            .expireAfterWrite(applicationProperties.getUserSync().getTimeToLive())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, knownUsers, "knownUsers");
+        this.syncWrites = Counter.builder("user.sync.writes")
+            .description("Number of users written to the local database while syncing with the IdP")
+            .register(meterRegistry);
     }
 
     /**
@@ -68,6 +106,25 @@ public class UserService {
             });
     }
 
+    /**
+     * Makes sure that a user referenced by an entity exists in the local database, as it may only exist in the gateway.
+     * Users already known with the same login are not written again, and the cached blogs are evicted when a login changes.
+     *
+     * @param user the referenced user.
+     */
+    public void registerUserReference(User user) {
+        if (user.getLogin() != null && user.getLogin().equals(knownUsers.getIfPresent(user.getId()))) {
+            return;
+        }
+        if (userRepository.mergeReference(user)) {
+            this.clearBlogCaches();
+        }
+        this.clearUserCaches(user);
+        if (user.getLogin() != null) {
+            knownUsers.put(user.getId(), user.getLogin());
+        }
+    }
+
     public Page<AdminUserDTO> getAllManagedUsers(Pageable pageable) {
         return userRepository.findAll(pageable).map(AdminUserDTO::new);
     }
@@ -85,21 +142,12 @@ public class UserService {
      * @return a list of all the authorities.
      */
     public List<String> getAuthorities() {
-        return authorityRepository.findAll().stream().map(Authority::getName).toList();
+        return authorityRegistry.getAuthorities().stream().sorted().toList();
     }
 
     private User syncUserWithIdP(Map<String, Object> details, User user) {
         // save authorities in to sync user roles/groups between IdP and JHipster's local database
-        Collection<String> dbAuthorities = getAuthorities();
-        Collection<String> userAuthorities = user.getAuthorities().stream().map(Authority::getName).toList();
-        for (String authority : userAuthorities) {
-            if (!dbAuthorities.contains(authority)) {
-                LOG.debug("Saving authority '{}' in local database", authority);
-                Authority authorityToSave = new Authority();
-                authorityToSave.setName(authority);
-                authorityRepository.save(authorityToSave);
-            }
-        }
+        authorityRegistry.registerAll(user.getAuthorities().stream().map(Authority::getName).toList());
         // save account in to sync users between IdP and JHipster's local database
         Optional<User> existingUser = userRepository.findOneByLogin(user.getLogin());
         if (existingUser.isPresent()) {
@@ -113,25 +161,30 @@ public class UserService {
                     idpModifiedDate = Instant.ofEpochSecond((Integer) details.get("updated_at"));
                 }
                 if (idpModifiedDate.isAfter(dbModifiedDate)) {
-                    LOG.debug("Updating user '{}' in local database", user.getLogin());
-                    updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+                    updateUserFromIdP(user);
                 }
                 // no last updated info, blindly update
             } else {
-                LOG.debug("Updating user '{}' in local database", user.getLogin());
-                updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+                updateUserFromIdP(user);
             }
         } else {
             LOG.debug("Saving user '{}' in local database", user.getLogin());
             userRepository.save(user);
+            syncWrites.increment();
             this.clearUserCaches(user);
         }
         return user;
     }
 
+    private void updateUserFromIdP(User user) {
+        LOG.debug("Updating user '{}' in local database", user.getLogin());
+        syncWrites.increment();
+        updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+    }
+
     /**
      * Returns the user from an OAuth 2.0 login or resource server with JWT.
-     * Synchronizes the user in the local repository.
+     * Synchronizes the user in the local repository, unless the same claims were already synchronized.
      *
      * @param authToken the authentication token.
      * @return the user from the authentication.
@@ -159,7 +212,34 @@ public class UserService {
                 .collect(Collectors.toSet())
         );
 
-        return new AdminUserDTO(syncUserWithIdP(attributes, user));
+        String subject = String.valueOf(attributes.get("sub"));
+        String fingerprint = syncFingerprint(attributes, user);
+        if (fingerprint.equals(syncFingerprints.getIfPresent(subject))) {
+            return new AdminUserDTO(user);
+        }
+        AdminUserDTO userDTO = new AdminUserDTO(syncUserWithIdP(attributes, user));
+        syncFingerprints.put(subject, fingerprint);
+        return userDTO;
+    }
+
+    /**
+     * Hashes the claims that {@link #syncUserWithIdP(Map, User)} copies into the local database.
+     */
+    private static String syncFingerprint(Map<String, Object> details, User user) {
+        String claims = String.join(
+            "|",
+            user.getId(),
+            user.getLogin(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getLangKey(),
+            user.getImageUrl(),
+            String.valueOf(user.isActivated()),
+            String.valueOf(details.get("updated_at")),
+            user.getAuthorities().stream().map(Authority::getName).sorted().collect(Collectors.joining(","))
+        );
+        return DigestUtils.md5DigestAsHex(claims.getBytes(StandardCharsets.UTF_8));
     }
 
     private static User getUser(Map<String, Object> details) {
@@ -223,6 +303,12 @@ public class UserService {
         return user;
     }
 
+    // Blogs are cached with the login of their user
+    private void clearBlogCaches() {
+        Objects.requireNonNull(cacheManager.getCache(BlogRepository.BLOGS_CACHE)).clear();
+        Objects.requireNonNull(cacheManager.getCache(BlogRepository.BLOG_PAGES_CACHE)).clear();
+    }
+
     private void clearUserCaches(User user) {
         Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).evict(user.getLogin());
         if (user.getEmail() != null) {
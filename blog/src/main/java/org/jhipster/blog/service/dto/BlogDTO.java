@@ -0,0 +1,85 @@
+package org.jhipster.blog.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link org.jhipster.blog.domain.Blog} entity, whose user only carries its id and login.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class BlogDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+
+    private String name;
+
+    private String handle;
+
+    private UserDTO user;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getHandle() {
+        return handle;
+    }
+
+    public void setHandle(String handle) {
+        this.handle = handle;
+    }
+
+    public UserDTO getUser() {
+        return user;
+    }
+
+    public void setUser(UserDTO user) {
+        this.user = user;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BlogDTO)) {
+            return false;
+        }
+
+        BlogDTO blogDTO = (BlogDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, blogDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BlogDTO{" +
+            "id='" + getId() + "'" +
+            ", name='" + getName() + "'" +
+            ", handle='" + getHandle() + "'" +
+            ", user=" + getUser() +
+            "}";
+    }
+}
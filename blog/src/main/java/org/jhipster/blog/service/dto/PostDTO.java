@@ -0,0 +1,108 @@
+package org.jhipster.blog.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A DTO for the {@link org.jhipster.blog.domain.Post} entity, whose blog and tags only carry their id and name.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class PostDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+
+    private String title;
+
+    private String content;
+
+    private Instant date;
+
+    private BlogDTO blog;
+
+    private Set<TagDTO> tags;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Instant getDate() {
+        return date;
+    }
+
+    public void setDate(Instant date) {
+        this.date = date;
+    }
+
+    public BlogDTO getBlog() {
+        return blog;
+    }
+
+    public void setBlog(BlogDTO blog) {
+        this.blog = blog;
+    }
+
+    public Set<TagDTO> getTags() {
+        return tags;
+    }
+
+    public void setTags(Set<TagDTO> tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostDTO)) {
+            return false;
+        }
+
+        PostDTO postDTO = (PostDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, postDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PostDTO{" +
+            "id='" + getId() + "'" +
+            ", title='" + getTitle() + "'" +
+            ", date='" + getDate() + "'" +
+            ", blog=" + getBlog() +
+            ", tags=" + getTags() +
+            "}";
+    }
+}
@@ -0,0 +1,61 @@
+package org.jhipster.blog.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for a {@link org.jhipster.blog.domain.Post} matching a full-text search, whose fields are written next to its score.
+ */
+public class PostSearchHitDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @JsonUnwrapped
+    private PostDTO post;
+
+    private double score;
+
+    public PostDTO getPost() {
+        return post;
+    }
+
+    public void setPost(PostDTO post) {
+        this.post = post;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostSearchHitDTO)) {
+            return false;
+        }
+
+        PostSearchHitDTO postSearchHitDTO = (PostSearchHitDTO) o;
+        return Objects.equals(this.post, postSearchHitDTO.post) && this.score == postSearchHitDTO.score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.post, this.score);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "PostSearchHitDTO{" +
+            "post=" + getPost() +
+            ", score=" + getScore() +
+            "}";
+    }
+}
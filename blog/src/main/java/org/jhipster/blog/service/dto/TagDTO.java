@@ -0,0 +1,74 @@
+package org.jhipster.blog.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A DTO for the {@link org.jhipster.blog.domain.Tag} entity, whose posts only carry their id and title.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class TagDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String id;
+
+    private String name;
+
+    private Set<PostDTO> posts;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<PostDTO> getPosts() {
+        return posts;
+    }
+
+    public void setPosts(Set<PostDTO> posts) {
+        this.posts = posts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TagDTO)) {
+            return false;
+        }
+
+        TagDTO tagDTO = (TagDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, tagDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "TagDTO{" +
+            "id='" + getId() + "'" +
+            ", name='" + getName() + "'" +
+            "}";
+    }
+}
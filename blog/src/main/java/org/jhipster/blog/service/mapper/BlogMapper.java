@@ -0,0 +1,25 @@
+package org.jhipster.blog.service.mapper;
+
+import java.util.List;
+import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.User;
+import org.jhipster.blog.service.dto.BlogDTO;
+import org.jhipster.blog.service.dto.UserDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Blog} and its read DTO {@link BlogDTO}.
+ */
+@Mapper(componentModel = "spring")
+public interface BlogMapper {
+    @Mapping(target = "user", source = "user", qualifiedByName = "userLogin")
+    BlogDTO toDto(Blog blog);
+
+    List<BlogDTO> toDto(List<Blog> blogs);
+
+    @Named("userLogin")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "login", source = "login")
+    UserDTO toDtoUserLogin(User user);
+}
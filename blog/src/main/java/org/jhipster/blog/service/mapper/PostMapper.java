@@ -0,0 +1,49 @@
+package org.jhipster.blog.service.mapper;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.repository.PostSearchHit;
+import org.jhipster.blog.service.dto.BlogDTO;
+import org.jhipster.blog.service.dto.PostDTO;
+import org.jhipster.blog.service.dto.PostSearchHitDTO;
+import org.jhipster.blog.service.dto.TagDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Post} and its read DTO {@link PostDTO}, also used for the posts found by a search.
+ * <p>
+ * The blog and the tags are mapped to their id and name only, so a post never drags the rest of the graph along.
+ */
+@Mapper(componentModel = "spring")
+public interface PostMapper {
+    @Mapping(target = "blog", source = "blog", qualifiedByName = "blogName")
+    @Mapping(target = "tags", source = "tags", qualifiedByName = "tagNameSet")
+    PostDTO toDto(Post post);
+
+    List<PostDTO> toDto(List<Post> posts);
+
+    PostSearchHitDTO toSearchHitDto(PostSearchHit hit);
+
+    List<PostSearchHitDTO> toSearchHitDto(List<PostSearchHit> hits);
+
+    @Named("blogName")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    BlogDTO toDtoBlogName(Blog blog);
+
+    @Named("tagName")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    TagDTO toDtoTagName(Tag tag);
+
+    @Named("tagNameSet")
+    default Set<TagDTO> toDtoTagNameSet(Set<Tag> tags) {
+        return tags == null ? null : tags.stream().map(this::toDtoTagName).collect(Collectors.toSet());
+    }
+}
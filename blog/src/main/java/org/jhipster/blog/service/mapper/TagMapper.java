@@ -0,0 +1,34 @@
+package org.jhipster.blog.service.mapper;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.service.dto.PostDTO;
+import org.jhipster.blog.service.dto.TagDTO;
+import org.mapstruct.*;
+
+/**
+ * Mapper for the entity {@link Tag} and its read DTO {@link TagDTO}.
+ * <p>
+ * The posts are mapped to their id and title only, so a tag never drags the rest of the graph along.
+ */
+@Mapper(componentModel = "spring")
+public interface TagMapper {
+    @Mapping(target = "posts", source = "posts", qualifiedByName = "postTitleSet")
+    TagDTO toDto(Tag tag);
+
+    List<TagDTO> toDto(List<Tag> tags);
+
+    @Named("postTitle")
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "title", source = "title")
+    PostDTO toDtoPostTitle(Post post);
+
+    @Named("postTitleSet")
+    default Set<PostDTO> toDtoPostTitleSet(Set<Post> posts) {
+        return posts == null ? null : posts.stream().map(this::toDtoPostTitle).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,83 @@
+package org.jhipster.blog.web.filter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import org.springframework.util.Assert;
+
+/**
+ * Decides whether a request path is a client route, which must be forwarded to the client {@code index.html}.
+ * <p>
+ * The excluded prefixes are compiled once into a prefix trie, so that a path is classified in a single pass and without allocation.
+ */
+public final class SpaPathClassifier {
+
+    private final Node root = new Node();
+
+    public SpaPathClassifier(Collection<String> excludedPrefixes) {
+        for (String prefix : excludedPrefixes) {
+            Assert.hasLength(prefix, "Excluded prefixes should not be null or empty.");
+            Node node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.getOrAddChild(prefix.charAt(i));
+            }
+            node.terminal = true;
+        }
+    }
+
+    /**
+     * Checks if the path is a client route.
+     *
+     * @param path the request path, without the context path.
+     * @return {@code true} if the path is absolute, contains no period and doesn't start with one of the excluded prefixes.
+     */
+    public boolean isClientRoute(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            // client routes never contain a period or a line terminator
+            if (c == '.' || c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+            if (node != null) {
+                if (node.terminal) {
+                    return false;
+                }
+                node = node.getChild(c);
+            }
+        }
+        return node == null || !node.terminal;
+    }
+
+    private static final class Node {
+
+        private char[] keys = new char[0];
+
+        private Node[] children = new Node[0];
+
+        private boolean terminal;
+
+        private Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrAddChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.jhipster.blog.web.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.net.URI;
@@ -7,16 +8,26 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.jhipster.blog.config.ApplicationProperties;
 import org.jhipster.blog.domain.Blog;
 import org.jhipster.blog.repository.BlogRepository;
-import org.jhipster.blog.repository.UserRepository;
+import org.jhipster.blog.service.UserService;
+import org.jhipster.blog.service.dto.BlogDTO;
+import org.jhipster.blog.service.mapper.BlogMapper;
 import org.jhipster.blog.web.rest.errors.BadRequestAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
+import tech.jhipster.web.util.PaginationUtil;
 import tech.jhipster.web.util.ResponseUtil;
 
 /**
@@ -35,11 +46,26 @@ public class BlogResource {
 
     private final BlogRepository blogRepository;
 
-    private final UserRepository userRepository;
+    private final UserService userService;
 
-    public BlogResource(BlogRepository blogRepository, UserRepository userRepository) {
+    private final BlogMapper blogMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final int exportBatchSize;
+
+    public BlogResource(
+        BlogRepository blogRepository,
+        UserService userService,
+        BlogMapper blogMapper,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
         this.blogRepository = blogRepository;
-        this.userRepository = userRepository;
+        this.userService = userService;
+        this.blogMapper = blogMapper;
+        this.objectMapper = objectMapper;
+        this.exportBatchSize = applicationProperties.getBlogExport().getBatchSize();
     }
 
     /**
@@ -57,11 +83,10 @@ public class BlogResource {
         }
 
         if (blog.getUser() != null) {
-            // Save user in case it's new and only exists in gateway
-            userRepository.save(blog.getUser());
+            userService.registerUserReference(blog.getUser());
         }
 
-        blog = blogRepository.save(blog);
+        blog = blogRepository.create(blog);
         return ResponseEntity.created(new URI("/api/blogs/" + blog.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, true, ENTITY_NAME, blog.getId()))
             .body(blog);
@@ -88,16 +113,13 @@ public class BlogResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!blogRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
         if (blog.getUser() != null) {
-            // Save user in case it's new and only exists in gateway
-            userRepository.save(blog.getUser());
+            userService.registerUserReference(blog.getUser());
         }
 
-        blog = blogRepository.save(blog);
+        blog = blogRepository
+            .update(blog)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity.ok().headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, blog.getId())).body(blog);
     }
 
@@ -125,28 +147,8 @@ public class BlogResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!blogRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        if (blog.getUser() != null) {
-            // Save user in case it's new and only exists in gateway
-            userRepository.save(blog.getUser());
-        }
-
-        Optional<Blog> result = blogRepository
-            .findById(blog.getId())
-            .map(existingBlog -> {
-                if (blog.getName() != null) {
-                    existingBlog.setName(blog.getName());
-                }
-                if (blog.getHandle() != null) {
-                    existingBlog.setHandle(blog.getHandle());
-                }
-
-                return existingBlog;
-            })
-            .map(blogRepository::save);
+        // The user of the blog is left unchanged by a partial update
+        Optional<Blog> result = blogRepository.partialUpdate(blog);
 
         return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, blog.getId()));
     }
@@ -154,12 +156,41 @@ public class BlogResource {
     /**
      * {@code GET  /blogs} : get all the blogs.
      *
+     * @param pageable the pagination information.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of blogs in body.
      */
     @GetMapping("")
-    public List<Blog> getAllBlogs() {
-        LOG.debug("REST request to get all Blogs");
-        return blogRepository.findAll();
+    public ResponseEntity<List<BlogDTO>> getAllBlogs(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+        LOG.debug("REST request to get a page of Blogs");
+        Page<Blog> page = blogRepository.findAllWithUser(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(blogMapper.toDto(page.getContent()));
+    }
+
+    /**
+     * {@code GET  /blogs} : get all the blogs as a stream, ordered by id.
+     * <p>
+     * Blogs are read from the database in batches as they are written, so that they are never all held in memory.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the blogs as newline delimited JSON in body.
+     */
+    @GetMapping(value = "", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAllBlogsAsStream() {
+        LOG.debug("REST request to get all Blogs as a stream");
+        StreamingResponseBody body = outputStream -> {
+            String afterId = null;
+            List<Blog> blogs;
+            do {
+                blogs = blogRepository.findAllWithUserAfter(afterId, exportBatchSize);
+                for (Blog blog : blogs) {
+                    outputStream.write(objectMapper.writeValueAsBytes(blogMapper.toDto(blog)));
+                    outputStream.write('\n');
+                    afterId = blog.getId();
+                }
+                outputStream.flush();
+            } while (blogs.size() == exportBatchSize);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     /**
@@ -169,9 +200,9 @@ public class BlogResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the blog, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Blog> getBlog(@PathVariable("id") String id) {
+    public ResponseEntity<BlogDTO> getBlog(@PathVariable("id") String id) {
         LOG.debug("REST request to get Blog : {}", id);
-        Optional<Blog> blog = blogRepository.findById(id);
+        Optional<BlogDTO> blog = blogRepository.findById(id).map(blogMapper::toDto);
         return ResponseUtil.wrapOrNotFound(blog);
     }
 
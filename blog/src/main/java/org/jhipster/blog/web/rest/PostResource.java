@@ -9,6 +9,8 @@ import java.util.Objects;
 import java.util.Optional;
 import org.jhipster.blog.domain.Post;
 import org.jhipster.blog.repository.PostRepository;
+import org.jhipster.blog.service.dto.PostDTO;
+import org.jhipster.blog.service.mapper.PostMapper;
 import org.jhipster.blog.web.rest.errors.BadRequestAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,8 +41,11 @@ public class PostResource {
 
     private final PostRepository postRepository;
 
-    public PostResource(PostRepository postRepository) {
+    private final PostMapper postMapper;
+
+    public PostResource(PostRepository postRepository, PostMapper postMapper) {
         this.postRepository = postRepository;
+        this.postMapper = postMapper;
     }
 
     /**
@@ -83,11 +88,9 @@ public class PostResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!postRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        post = postRepository.save(post);
+        post = postRepository
+            .update(post)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity.ok().headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, post.getId())).body(post);
     }
 
@@ -115,26 +118,7 @@ public class PostResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!postRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Post> result = postRepository
-            .findById(post.getId())
-            .map(existingPost -> {
-                if (post.getTitle() != null) {
-                    existingPost.setTitle(post.getTitle());
-                }
-                if (post.getContent() != null) {
-                    existingPost.setContent(post.getContent());
-                }
-                if (post.getDate() != null) {
-                    existingPost.setDate(post.getDate());
-                }
-
-                return existingPost;
-            })
-            .map(postRepository::save);
+        Optional<Post> result = postRepository.partialUpdate(post);
 
         return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, post.getId()));
     }
@@ -143,14 +127,18 @@ public class PostResource {
      * {@code GET  /posts} : get all the posts.
      *
      * @param pageable the pagination information.
+     * @param summary whether the content of the posts is left out, for lists which only show their titles.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of posts in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<Post>> getAllPosts(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<PostDTO>> getAllPosts(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable,
+        @RequestParam(name = "summary", required = false, defaultValue = "false") boolean summary
+    ) {
         LOG.debug("REST request to get a page of Posts");
-        Page<Post> page = postRepository.findAll(pageable);
+        Page<Post> page = postRepository.findAllWithRelationships(pageable, summary);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).body(postMapper.toDto(page.getContent()));
     }
 
     /**
@@ -160,9 +148,9 @@ public class PostResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the post, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Post> getPost(@PathVariable("id") String id) {
+    public ResponseEntity<PostDTO> getPost(@PathVariable("id") String id) {
         LOG.debug("REST request to get Post : {}", id);
-        Optional<Post> post = postRepository.findById(id);
+        Optional<PostDTO> post = postRepository.findById(id).map(postMapper::toDto);
         return ResponseUtil.wrapOrNotFound(post);
     }
 
@@ -0,0 +1,54 @@
+package org.jhipster.blog.web.rest;
+
+import java.util.List;
+import org.jhipster.blog.repository.PostRepository;
+import org.jhipster.blog.repository.PostSearchHit;
+import org.jhipster.blog.service.dto.PostSearchHitDTO;
+import org.jhipster.blog.service.mapper.PostMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import tech.jhipster.web.util.PaginationUtil;
+
+/**
+ * REST controller for searching {@link org.jhipster.blog.domain.Post}.
+ */
+@RestController
+@RequestMapping("/api/_search")
+public class PostSearchResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PostSearchResource.class);
+
+    private final PostRepository postRepository;
+
+    private final PostMapper postMapper;
+
+    public PostSearchResource(PostRepository postRepository, PostMapper postMapper) {
+        this.postRepository = postRepository;
+        this.postMapper = postMapper;
+    }
+
+    /**
+     * {@code GET  /_search/posts?query=:query} : search the posts by title and content.
+     *
+     * @param query the search terms.
+     * @param pageable the pagination information, the posts are always ordered by relevance.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of matching posts with their score in body,
+     * without their content.
+     */
+    @GetMapping("/posts")
+    public ResponseEntity<List<PostSearchHitDTO>> searchPosts(
+        @RequestParam("query") String query,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to search for a page of Posts for query {}", query);
+        Page<PostSearchHit> page = postRepository.search(query, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(postMapper.toSearchHitDto(page.getContent()));
+    }
+}
@@ -7,8 +7,15 @@ import java.net.URISyntaxException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.jhipster.blog.domain.Post;
 import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.repository.PostRepository;
 import org.jhipster.blog.repository.TagRepository;
+import org.jhipster.blog.repository.TagStats;
+import org.jhipster.blog.service.dto.PostDTO;
+import org.jhipster.blog.service.dto.TagDTO;
+import org.jhipster.blog.service.mapper.PostMapper;
+import org.jhipster.blog.service.mapper.TagMapper;
 import org.jhipster.blog.web.rest.errors.BadRequestAlertException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,8 +46,17 @@ public class TagResource {
 
     private final TagRepository tagRepository;
 
-    public TagResource(TagRepository tagRepository) {
+    private final PostRepository postRepository;
+
+    private final TagMapper tagMapper;
+
+    private final PostMapper postMapper;
+
+    public TagResource(TagRepository tagRepository, PostRepository postRepository, TagMapper tagMapper, PostMapper postMapper) {
         this.tagRepository = tagRepository;
+        this.postRepository = postRepository;
+        this.tagMapper = tagMapper;
+        this.postMapper = postMapper;
     }
 
     /**
@@ -83,11 +99,9 @@ public class TagResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!tagRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        tag = tagRepository.save(tag);
+        tag = tagRepository
+            .update(tag)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity.ok().headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tag.getId())).body(tag);
     }
 
@@ -115,20 +129,7 @@ public class TagResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!tagRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Tag> result = tagRepository
-            .findById(tag.getId())
-            .map(existingTag -> {
-                if (tag.getName() != null) {
-                    existingTag.setName(tag.getName());
-                }
-
-                return existingTag;
-            })
-            .map(tagRepository::save);
+        Optional<Tag> result = tagRepository.partialUpdate(tag);
 
         return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, tag.getId()));
     }
@@ -140,11 +141,44 @@ public class TagResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tags in body.
      */
     @GetMapping("")
-    public ResponseEntity<List<Tag>> getAllTags(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
+    public ResponseEntity<List<TagDTO>> getAllTags(@org.springdoc.core.annotations.ParameterObject Pageable pageable) {
         LOG.debug("REST request to get a page of Tags");
-        Page<Tag> page = tagRepository.findAll(pageable);
+        Page<Tag> page = tagRepository.findAllWithPosts(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(tagMapper.toDto(page.getContent()));
+    }
+
+    /**
+     * {@code GET  /tags/stats} : get the number of posts of every tag, the most used tags first.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of tag stats in body.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<TagStats>> getAllTagStats() {
+        LOG.debug("REST request to get the stats of all Tags");
+        return ResponseEntity.ok(tagRepository.findAllStats());
+    }
+
+    /**
+     * {@code GET  /tags/:id/posts} : get the posts of the "id" tag, without their content.
+     *
+     * @param id the id of the tag.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of posts in body,
+     * or with status {@code 404 (Not Found)} if there is no tag with this id.
+     */
+    @GetMapping("/{id}/posts")
+    public ResponseEntity<List<PostDTO>> getTagPosts(
+        @PathVariable("id") String id,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of the Posts of Tag : {}", id);
+        Page<Post> page = postRepository.findAllByTag(id, pageable);
+        if (page.getTotalElements() == 0 && !tagRepository.existsById(id)) {
+            return ResponseEntity.notFound().build();
+        }
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).body(postMapper.toDto(page.getContent()));
     }
 
     /**
@@ -154,9 +188,9 @@ public class TagResource {
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the tag, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Tag> getTag(@PathVariable("id") String id) {
+    public ResponseEntity<TagDTO> getTag(@PathVariable("id") String id) {
         LOG.debug("REST request to get Tag : {}", id);
-        Optional<Tag> tag = tagRepository.findById(id);
+        Optional<TagDTO> tag = tagRepository.findById(id).map(tagMapper::toDto);
         return ResponseUtil.wrapOrNotFound(tag);
     }
 
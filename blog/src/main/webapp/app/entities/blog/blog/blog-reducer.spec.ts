@@ -2,10 +2,20 @@ import axios from 'axios';
 
 import { configureStore } from '@reduxjs/toolkit';
 import sinon from 'sinon';
+import { parseHeaderForLinks } from 'react-jhipster';
 
 import { EntityState } from 'app/shared/reducers/reducer.utils';
 import { IBlog, defaultValue } from 'app/shared/model/blog/blog.model';
-import reducer, { createEntity, deleteEntity, getEntities, getEntity, partialUpdateEntity, reset, updateEntity } from './blog.reducer';
+import reducer, {
+  createEntity,
+  deleteEntity,
+  getAllEntities,
+  getEntities,
+  getEntity,
+  partialUpdateEntity,
+  reset,
+  updateEntity,
+} from './blog.reducer';
 
 describe('Entities reducer tests', () => {
   function isEmpty(element): boolean {
@@ -20,6 +30,10 @@ describe('Entities reducer tests', () => {
     errorMessage: null,
     entities: [],
     entity: defaultValue,
+    links: {
+      next: 0,
+    },
+    totalItems: 0,
     updating: false,
     updateSuccess: false,
   };
@@ -107,7 +121,8 @@ describe('Entities reducer tests', () => {
 
   describe('Successes', () => {
     it('should fetch all entities', () => {
-      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }] };
+      const payload = { data: [{ 1: 'fake1' }, { 2: 'fake2' }], headers: { 'x-total-count': 123, link: ';' } };
+      const links = parseHeaderForLinks(payload.headers.link);
       expect(
         reducer(undefined, {
           type: getEntities.fulfilled.type,
@@ -115,11 +130,28 @@ describe('Entities reducer tests', () => {
         }),
       ).toEqual({
         ...initialState,
+        links,
         loading: false,
+        totalItems: payload.headers['x-total-count'],
         entities: payload.data,
       });
     });
 
+    it('should fetch all entities unpaged', () => {
+      const payload = [{ 1: 'fake1' }, { 2: 'fake2' }];
+      expect(
+        reducer(undefined, {
+          type: getAllEntities.fulfilled.type,
+          payload,
+        }),
+      ).toEqual({
+        ...initialState,
+        loading: false,
+        totalItems: payload.length,
+        entities: payload,
+      });
+    });
+
     it('should fetch a single entity', () => {
       const payload = { data: { 1: 'fake1' } };
       expect(
@@ -190,6 +222,17 @@ describe('Entities reducer tests', () => {
       expect(getEntities.fulfilled.match(result)).toBe(true);
     });
 
+    it('dispatches FETCH_ALL_BLOGS actions', async () => {
+      axios.get = sinon.stub().returns(Promise.resolve({ data: '{"id":"1"}\n{"id":"2"}\n' }));
+
+      const result = await getAllEntities()(dispatch, getState, extra);
+
+      const pendingAction = dispatch.mock.calls[0][0];
+      expect(pendingAction.meta.requestStatus).toBe('pending');
+      expect(getAllEntities.fulfilled.match(result)).toBe(true);
+      expect(result.payload).toEqual([{ id: '1' }, { id: '2' }]);
+    });
+
     it('dispatches FETCH_BLOG actions', async () => {
       const arg = 42666;
 
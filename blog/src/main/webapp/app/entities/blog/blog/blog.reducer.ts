@@ -1,6 +1,6 @@
 import axios from 'axios';
 import { createAsyncThunk, isFulfilled, isPending } from '@reduxjs/toolkit';
-import { ASC } from 'app/shared/util/pagination.constants';
+import { loadMoreDataWhenScrolled, parseHeaderForLinks } from 'react-jhipster';
 import { cleanEntity } from 'app/shared/util/entity-utils';
 import { EntityState, IQueryParams, createEntitySlice, serializeAxiosError } from 'app/shared/reducers/reducer.utils';
 import { IBlog, defaultValue } from 'app/shared/model/blog/blog.model';
@@ -10,7 +10,9 @@ const initialState: EntityState<IBlog> = {
   errorMessage: null,
   entities: [],
   entity: defaultValue,
+  links: { next: 0 },
   updating: false,
+  totalItems: 0,
   updateSuccess: false,
 };
 
@@ -20,13 +22,26 @@ const apiUrl = 'services/blog/api/blogs';
 
 export const getEntities = createAsyncThunk(
   'blog/fetch_entity_list',
-  async ({ sort }: IQueryParams) => {
-    const requestUrl = `${apiUrl}?${sort ? `sort=${sort}&` : ''}cacheBuster=${new Date().getTime()}`;
+  async ({ page, size, sort }: IQueryParams) => {
+    const requestUrl = `${apiUrl}?${sort ? `page=${page}&size=${size}&sort=${sort}&` : ''}cacheBuster=${new Date().getTime()}`;
     return axios.get<IBlog[]>(requestUrl);
   },
   { serializeError: serializeAxiosError },
 );
 
+// Unpaged list, for the blog dropdowns: the blogs are streamed by the server as newline delimited JSON
+export const getAllEntities = createAsyncThunk(
+  'blog/fetch_all_entities',
+  async () => {
+    const result = await axios.get<string>(apiUrl, { headers: { Accept: 'application/x-ndjson' }, responseType: 'text' });
+    return result.data
+      .split('\n')
+      .filter(line => line.trim().length > 0)
+      .map(line => JSON.parse(line) as IBlog);
+  },
+  { serializeError: serializeAxiosError },
+);
+
 export const getEntity = createAsyncThunk(
   'blog/fetch_entity',
   async (id: string | number) => {
@@ -39,9 +54,7 @@ export const getEntity = createAsyncThunk(
 export const createEntity = createAsyncThunk(
   'blog/create_entity',
   async (entity: IBlog, thunkAPI) => {
-    const result = await axios.post<IBlog>(apiUrl, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
-    return result;
+    return axios.post<IBlog>(apiUrl, cleanEntity(entity));
   },
   { serializeError: serializeAxiosError },
 );
@@ -49,9 +62,7 @@ export const createEntity = createAsyncThunk(
 export const updateEntity = createAsyncThunk(
   'blog/update_entity',
   async (entity: IBlog, thunkAPI) => {
-    const result = await axios.put<IBlog>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
-    return result;
+    return axios.put<IBlog>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
   },
   { serializeError: serializeAxiosError },
 );
@@ -59,9 +70,7 @@ export const updateEntity = createAsyncThunk(
 export const partialUpdateEntity = createAsyncThunk(
   'blog/partial_update_entity',
   async (entity: IBlog, thunkAPI) => {
-    const result = await axios.patch<IBlog>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
-    return result;
+    return axios.patch<IBlog>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
   },
   { serializeError: serializeAxiosError },
 );
@@ -70,9 +79,7 @@ export const deleteEntity = createAsyncThunk(
   'blog/delete_entity',
   async (id: string | number, thunkAPI) => {
     const requestUrl = `${apiUrl}/${id}`;
-    const result = await axios.delete<IBlog>(requestUrl);
-    thunkAPI.dispatch(getEntities({}));
-    return result;
+    return await axios.delete<IBlog>(requestUrl);
   },
   { serializeError: serializeAxiosError },
 );
@@ -88,25 +95,27 @@ export const BlogSlice = createEntitySlice({
         state.loading = false;
         state.entity = action.payload.data;
       })
+      .addCase(getAllEntities.fulfilled, (state, action) => {
+        state.loading = false;
+        state.links = { next: 0 };
+        state.entities = action.payload;
+        state.totalItems = action.payload.length;
+      })
       .addCase(deleteEntity.fulfilled, state => {
         state.updating = false;
         state.updateSuccess = true;
         state.entity = {};
       })
       .addMatcher(isFulfilled(getEntities), (state, action) => {
-        const { data } = action.payload;
+        const { data, headers } = action.payload;
+        const links = parseHeaderForLinks(headers.link);
 
         return {
           ...state,
           loading: false,
-          entities: data.sort((a, b) => {
-            if (!action.meta?.arg?.sort) {
-              return 1;
-            }
-            const order = action.meta.arg.sort.split(',')[1];
-            const predicate = action.meta.arg.sort.split(',')[0];
-            return order === ASC ? (a[predicate] < b[predicate] ? -1 : 1) : b[predicate] < a[predicate] ? -1 : 1;
-          }),
+          links,
+          entities: loadMoreDataWhenScrolled(state.entities, data, links),
+          totalItems: parseInt(headers['x-total-count'], 10),
         };
       })
       .addMatcher(isFulfilled(createEntity, updateEntity, partialUpdateEntity), (state, action) => {
@@ -115,7 +124,7 @@ export const BlogSlice = createEntitySlice({
         state.updateSuccess = true;
         state.entity = action.payload.data;
       })
-      .addMatcher(isPending(getEntities, getEntity), state => {
+      .addMatcher(isPending(getEntities, getAllEntities, getEntity), state => {
         state.errorMessage = null;
         state.updateSuccess = false;
         state.loading = true;
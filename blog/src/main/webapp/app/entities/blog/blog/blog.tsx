@@ -1,61 +1,98 @@
 import React, { useEffect, useState } from 'react';
-import { Link, useLocation, useNavigate } from 'react-router-dom';
+import InfiniteScroll from 'react-infinite-scroll-component';
+import { Link, useLocation } from 'react-router-dom';
 import { Button, Table } from 'reactstrap';
-import { Translate, getSortState } from 'react-jhipster';
+import { Translate, getPaginationState } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 import { faSort, faSortDown, faSortUp } from '@fortawesome/free-solid-svg-icons';
-import { ASC, DESC } from 'app/shared/util/pagination.constants';
-import { overrideSortStateWithQueryParams } from 'app/shared/util/entity-utils';
+import { ASC, DESC, ITEMS_PER_PAGE } from 'app/shared/util/pagination.constants';
+import { overridePaginationStateWithQueryParams } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
-import { getEntities } from './blog.reducer';
+import { getEntities, reset } from './blog.reducer';
 
 export const Blog = () => {
   const dispatch = useAppDispatch();
 
   const pageLocation = useLocation();
-  const navigate = useNavigate();
 
-  const [sortState, setSortState] = useState(overrideSortStateWithQueryParams(getSortState(pageLocation, 'id'), pageLocation.search));
+  const [paginationState, setPaginationState] = useState(
+    overridePaginationStateWithQueryParams(getPaginationState(pageLocation, ITEMS_PER_PAGE, 'id'), pageLocation.search),
+  );
+  const [sorting, setSorting] = useState(false);
 
   const blogList = useAppSelector(state => state.blog.blog.entities);
   const loading = useAppSelector(state => state.blog.blog.loading);
+  const links = useAppSelector(state => state.blog.blog.links);
+  const updateSuccess = useAppSelector(state => state.blog.blog.updateSuccess);
 
   const getAllEntities = () => {
     dispatch(
       getEntities({
-        sort: `${sortState.sort},${sortState.order}`,
+        page: paginationState.activePage - 1,
+        size: paginationState.itemsPerPage,
+        sort: `${paginationState.sort},${paginationState.order}`,
       }),
     );
   };
 
-  const sortEntities = () => {
+  const resetAll = () => {
+    dispatch(reset());
+    setPaginationState({
+      ...paginationState,
+      activePage: 1,
+    });
+    dispatch(getEntities({}));
+  };
+
+  useEffect(() => {
+    resetAll();
+  }, []);
+
+  useEffect(() => {
+    if (updateSuccess) {
+      resetAll();
+    }
+  }, [updateSuccess]);
+
+  useEffect(() => {
     getAllEntities();
-    const endURL = `?sort=${sortState.sort},${sortState.order}`;
-    if (pageLocation.search !== endURL) {
-      navigate(`${pageLocation.pathname}${endURL}`);
+  }, [paginationState.activePage]);
+
+  const handleLoadMore = () => {
+    if ((window as any).pageYOffset > 0) {
+      setPaginationState({
+        ...paginationState,
+        activePage: paginationState.activePage + 1,
+      });
     }
   };
 
   useEffect(() => {
-    sortEntities();
-  }, [sortState.order, sortState.sort]);
+    if (sorting) {
+      getAllEntities();
+      setSorting(false);
+    }
+  }, [sorting]);
 
   const sort = p => () => {
-    setSortState({
-      ...sortState,
-      order: sortState.order === ASC ? DESC : ASC,
+    dispatch(reset());
+    setPaginationState({
+      ...paginationState,
+      activePage: 1,
+      order: paginationState.order === ASC ? DESC : ASC,
       sort: p,
     });
+    setSorting(true);
   };
 
   const handleSyncList = () => {
-    sortEntities();
+    resetAll();
   };
 
   const getSortIconByFieldName = (fieldName: string) => {
-    const sortFieldName = sortState.sort;
-    const order = sortState.order;
+    const sortFieldName = paginationState.sort;
+    const order = paginationState.order;
     if (sortFieldName !== fieldName) {
       return faSort;
     }
@@ -79,75 +116,82 @@ export const Blog = () => {
         </div>
       </h2>
       <div className="table-responsive">
-        {blogList && blogList.length > 0 ? (
-          <Table responsive>
-            <thead>
-              <tr>
-                <th className="hand" onClick={sort('id')}>
-                  <Translate contentKey="blogApp.blogBlog.id">ID</Translate> <FontAwesomeIcon icon={getSortIconByFieldName('id')} />
-                </th>
-                <th className="hand" onClick={sort('name')}>
-                  <Translate contentKey="blogApp.blogBlog.name">Name</Translate> <FontAwesomeIcon icon={getSortIconByFieldName('name')} />
-                </th>
-                <th className="hand" onClick={sort('handle')}>
-                  <Translate contentKey="blogApp.blogBlog.handle">Handle</Translate>{' '}
-                  <FontAwesomeIcon icon={getSortIconByFieldName('handle')} />
-                </th>
-                <th>
-                  <Translate contentKey="blogApp.blogBlog.user">User</Translate> <FontAwesomeIcon icon="sort" />
-                </th>
-                <th />
-              </tr>
-            </thead>
-            <tbody>
-              {blogList.map((blog, i) => (
-                <tr key={`entity-${i}`} data-cy="entityTable">
-                  <td>
-                    <Button tag={Link} to={`/blog/blog/${blog.id}`} color="link" size="sm">
-                      {blog.id}
-                    </Button>
-                  </td>
-                  <td>{blog.name}</td>
-                  <td>{blog.handle}</td>
-                  <td>{blog.user ? blog.user.login : ''}</td>
-                  <td className="text-end">
-                    <div className="btn-group flex-btn-group-container">
-                      <Button tag={Link} to={`/blog/blog/${blog.id}`} color="info" size="sm" data-cy="entityDetailsButton">
-                        <FontAwesomeIcon icon="eye" />{' '}
-                        <span className="d-none d-md-inline">
-                          <Translate contentKey="entity.action.view">View</Translate>
-                        </span>
-                      </Button>
-                      <Button tag={Link} to={`/blog/blog/${blog.id}/edit`} color="primary" size="sm" data-cy="entityEditButton">
-                        <FontAwesomeIcon icon="pencil-alt" />{' '}
-                        <span className="d-none d-md-inline">
-                          <Translate contentKey="entity.action.edit">Edit</Translate>
-                        </span>
-                      </Button>
-                      <Button
-                        onClick={() => (window.location.href = `/blog/blog/${blog.id}/delete`)}
-                        color="danger"
-                        size="sm"
-                        data-cy="entityDeleteButton"
-                      >
-                        <FontAwesomeIcon icon="trash" />{' '}
-                        <span className="d-none d-md-inline">
-                          <Translate contentKey="entity.action.delete">Delete</Translate>
-                        </span>
-                      </Button>
-                    </div>
-                  </td>
+        <InfiniteScroll
+          dataLength={blogList ? blogList.length : 0}
+          next={handleLoadMore}
+          hasMore={paginationState.activePage - 1 < links.next}
+          loader={<div className="loader">Loading ...</div>}
+        >
+          {blogList && blogList.length > 0 ? (
+            <Table responsive>
+              <thead>
+                <tr>
+                  <th className="hand" onClick={sort('id')}>
+                    <Translate contentKey="blogApp.blogBlog.id">ID</Translate> <FontAwesomeIcon icon={getSortIconByFieldName('id')} />
+                  </th>
+                  <th className="hand" onClick={sort('name')}>
+                    <Translate contentKey="blogApp.blogBlog.name">Name</Translate> <FontAwesomeIcon icon={getSortIconByFieldName('name')} />
+                  </th>
+                  <th className="hand" onClick={sort('handle')}>
+                    <Translate contentKey="blogApp.blogBlog.handle">Handle</Translate>{' '}
+                    <FontAwesomeIcon icon={getSortIconByFieldName('handle')} />
+                  </th>
+                  <th>
+                    <Translate contentKey="blogApp.blogBlog.user">User</Translate> <FontAwesomeIcon icon="sort" />
+                  </th>
+                  <th />
                 </tr>
-              ))}
-            </tbody>
-          </Table>
-        ) : (
-          !loading && (
-            <div className="alert alert-warning">
-              <Translate contentKey="blogApp.blogBlog.home.notFound">No Blogs found</Translate>
-            </div>
-          )
-        )}
+              </thead>
+              <tbody>
+                {blogList.map((blog, i) => (
+                  <tr key={`entity-${i}`} data-cy="entityTable">
+                    <td>
+                      <Button tag={Link} to={`/blog/blog/${blog.id}`} color="link" size="sm">
+                        {blog.id}
+                      </Button>
+                    </td>
+                    <td>{blog.name}</td>
+                    <td>{blog.handle}</td>
+                    <td>{blog.user ? blog.user.login : ''}</td>
+                    <td className="text-end">
+                      <div className="btn-group flex-btn-group-container">
+                        <Button tag={Link} to={`/blog/blog/${blog.id}`} color="info" size="sm" data-cy="entityDetailsButton">
+                          <FontAwesomeIcon icon="eye" />{' '}
+                          <span className="d-none d-md-inline">
+                            <Translate contentKey="entity.action.view">View</Translate>
+                          </span>
+                        </Button>
+                        <Button tag={Link} to={`/blog/blog/${blog.id}/edit`} color="primary" size="sm" data-cy="entityEditButton">
+                          <FontAwesomeIcon icon="pencil-alt" />{' '}
+                          <span className="d-none d-md-inline">
+                            <Translate contentKey="entity.action.edit">Edit</Translate>
+                          </span>
+                        </Button>
+                        <Button
+                          onClick={() => (window.location.href = `/blog/blog/${blog.id}/delete`)}
+                          color="danger"
+                          size="sm"
+                          data-cy="entityDeleteButton"
+                        >
+                          <FontAwesomeIcon icon="trash" />{' '}
+                          <span className="d-none d-md-inline">
+                            <Translate contentKey="entity.action.delete">Delete</Translate>
+                          </span>
+                        </Button>
+                      </div>
+                    </td>
+                  </tr>
+                ))}
+              </tbody>
+            </Table>
+          ) : (
+            !loading && (
+              <div className="alert alert-warning">
+                <Translate contentKey="blogApp.blogBlog.home.notFound">No Blogs found</Translate>
+              </div>
+            )
+          )}
+        </InfiniteScroll>
       </div>
     </div>
   );
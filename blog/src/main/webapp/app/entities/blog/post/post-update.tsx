@@ -8,7 +8,7 @@ import { convertDateTimeFromServer, convertDateTimeToServer, displayDefaultDateT
 import { mapIdList } from 'app/shared/util/entity-utils';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
-import { getEntities as getBlogs } from 'app/entities/blog/blog/blog.reducer';
+import { getAllEntities as getBlogs } from 'app/entities/blog/blog/blog.reducer';
 import { getEntities as getTags } from 'app/entities/blog/tag/tag.reducer';
 import { createEntity, getEntity, updateEntity } from './post.reducer';
 
@@ -36,7 +36,7 @@ export const PostUpdate = () => {
       dispatch(getEntity(id));
     }
 
-    dispatch(getBlogs({}));
+    dispatch(getBlogs());
     dispatch(getTags({}));
   }, []);
 
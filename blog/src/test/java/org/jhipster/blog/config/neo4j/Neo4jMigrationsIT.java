@@ -0,0 +1,36 @@
+package org.jhipster.blog.config.neo4j;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.jhipster.blog.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.core.Neo4jClient;
+
+/**
+ * Integration tests for the {@link Neo4jMigrations}.
+ */
+@IntegrationTest
+class Neo4jMigrationsIT {
+
+    @Autowired
+    private Neo4jClient neo4jClient;
+
+    @Test
+    void testIndexesAndConstraintsAreCreated() {
+        List<String> indexes = List.copyOf(neo4jClient.query("SHOW INDEXES YIELD name RETURN name").fetchAs(String.class).all());
+
+        assertThat(indexes).contains(
+            "post_id",
+            "blog_id",
+            "tag_id",
+            "jhi_user_user_id",
+            "jhi_user_login",
+            "jhi_authority_name",
+            "tag_name",
+            "post_date",
+            "post_title_content"
+        );
+    }
+}
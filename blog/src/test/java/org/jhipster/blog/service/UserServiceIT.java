@@ -153,6 +153,25 @@ class UserServiceIT {
         assertThat(userDTO.getLangKey()).isEqualTo("en");
     }
 
+    @Test
+    void testUnchangedClaimsSkipSync() {
+        userDetails.put("sub", "unchanged_claims");
+        OAuth2AuthenticationToken authentication = createMockOAuth2AuthenticationToken(userDetails);
+        userService.getUserFromAuthentication(authentication);
+        assertThat(userRepository.findOneByLogin("unchanged_claims")).isPresent();
+        assertThat(userService.getAuthorities()).contains(AuthoritiesConstants.ANONYMOUS);
+
+        userRepository.deleteAll();
+        Objects.requireNonNull(cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE)).clear();
+        AdminUserDTO userDTO = userService.getUserFromAuthentication(authentication);
+        assertThat(userDTO.getLogin()).isEqualTo("unchanged_claims");
+        assertThat(userRepository.findOneByLogin("unchanged_claims")).isEmpty();
+
+        userDetails.put("family_name", "changed");
+        userService.getUserFromAuthentication(createMockOAuth2AuthenticationToken(userDetails));
+        assertThat(userRepository.findOneByLogin("unchanged_claims")).isPresent();
+    }
+
     private OAuth2AuthenticationToken createMockOAuth2AuthenticationToken(Map<String, Object> userDetails) {
         Collection<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS));
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
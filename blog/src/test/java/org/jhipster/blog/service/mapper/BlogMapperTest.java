@@ -0,0 +1,45 @@
+package org.jhipster.blog.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.User;
+import org.jhipster.blog.service.dto.BlogDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BlogMapper}.
+ */
+class BlogMapperTest {
+
+    private BlogMapper blogMapper;
+
+    @BeforeEach
+    void setUp() {
+        blogMapper = new BlogMapperImpl();
+    }
+
+    @Test
+    void shouldMapUserToItsIdAndLogin() {
+        User user = new User();
+        user.setId("user1");
+        user.setLogin("johndoe");
+        Blog blog = new Blog().id("blog1").name("Java Hipster").handle("jhipster").user(user);
+
+        BlogDTO blogDTO = blogMapper.toDto(blog);
+
+        assertThat(blogDTO.getId()).isEqualTo("blog1");
+        assertThat(blogDTO.getName()).isEqualTo("Java Hipster");
+        assertThat(blogDTO.getHandle()).isEqualTo("jhipster");
+        assertThat(blogDTO.getUser().getId()).isEqualTo("user1");
+        assertThat(blogDTO.getUser().getLogin()).isEqualTo("johndoe");
+    }
+
+    @Test
+    void shouldMapBlogWithoutUser() {
+        BlogDTO blogDTO = blogMapper.toDto(new Blog().id("blog1").name("Java Hipster"));
+
+        assertThat(blogDTO.getUser()).isNull();
+    }
+}
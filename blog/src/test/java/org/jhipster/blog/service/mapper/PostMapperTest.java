@@ -0,0 +1,76 @@
+package org.jhipster.blog.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.domain.User;
+import org.jhipster.blog.repository.PostSearchHit;
+import org.jhipster.blog.service.dto.PostDTO;
+import org.jhipster.blog.service.dto.PostSearchHitDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PostMapper}.
+ */
+class PostMapperTest {
+
+    private PostMapper postMapper;
+
+    @BeforeEach
+    void setUp() {
+        postMapper = new PostMapperImpl();
+    }
+
+    @Test
+    void shouldMapRelatedNodesToTheirIdAndName() {
+        User user = new User();
+        user.setId("user1");
+        user.setLogin("johndoe");
+        Blog blog = new Blog().id("blog1").name("Java Hipster").handle("jhipster").user(user);
+        Tag tag = new Tag().id("tag1").name("java");
+        Post post = new Post().id("post1").title("Title").content("Content").date(Instant.EPOCH).blog(blog).addTag(tag);
+        tag.addPost(new Post().id("post2").title("Other"));
+
+        PostDTO postDTO = postMapper.toDto(post);
+
+        assertThat(postDTO.getId()).isEqualTo("post1");
+        assertThat(postDTO.getTitle()).isEqualTo("Title");
+        assertThat(postDTO.getContent()).isEqualTo("Content");
+        assertThat(postDTO.getDate()).isEqualTo(Instant.EPOCH);
+        assertThat(postDTO.getBlog().getId()).isEqualTo("blog1");
+        assertThat(postDTO.getBlog().getName()).isEqualTo("Java Hipster");
+        assertThat(postDTO.getBlog().getHandle()).isNull();
+        assertThat(postDTO.getBlog().getUser()).isNull();
+        assertThat(postDTO.getTags()).singleElement().satisfies(tagDTO -> {
+            assertThat(tagDTO.getId()).isEqualTo("tag1");
+            assertThat(tagDTO.getName()).isEqualTo("java");
+            assertThat(tagDTO.getPosts()).isNull();
+        });
+    }
+
+    @Test
+    void shouldMapPostWithoutRelatedNodes() {
+        PostDTO postDTO = postMapper.toDto(new Post().id("post1").title("Title"));
+
+        assertThat(postDTO.getBlog()).isNull();
+        assertThat(postDTO.getTags()).isEmpty();
+    }
+
+    @Test
+    void shouldMapSearchHitToPostAndScore() {
+        Tag tag = new Tag().id("tag1").name("java");
+        tag.addPost(new Post().id("post2").title("Other"));
+        Post post = new Post().id("post1").title("Title").addTag(tag);
+
+        PostSearchHitDTO hitDTO = postMapper.toSearchHitDto(new PostSearchHit(post, 1.5));
+
+        assertThat(hitDTO.getScore()).isEqualTo(1.5);
+        assertThat(hitDTO.getPost().getId()).isEqualTo("post1");
+        assertThat(hitDTO.getPost().getTitle()).isEqualTo("Title");
+        assertThat(hitDTO.getPost().getTags()).singleElement().satisfies(tagDTO -> assertThat(tagDTO.getPosts()).isNull());
+    }
+}
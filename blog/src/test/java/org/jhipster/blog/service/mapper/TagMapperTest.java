@@ -0,0 +1,52 @@
+package org.jhipster.blog.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.service.dto.TagDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TagMapper}.
+ */
+class TagMapperTest {
+
+    private TagMapper tagMapper;
+
+    @BeforeEach
+    void setUp() {
+        tagMapper = new TagMapperImpl();
+    }
+
+    @Test
+    void shouldMapPostsToTheirIdAndTitle() {
+        Tag tag = new Tag().id("tag1").name("java");
+        Post post = new Post().id("post1").title("Title").content("Content").date(Instant.EPOCH).blog(new Blog().id("blog1"));
+        tag.addPost(post);
+        post.addTag(new Tag().id("tag2").name("spring"));
+
+        TagDTO tagDTO = tagMapper.toDto(tag);
+
+        assertThat(tagDTO.getId()).isEqualTo("tag1");
+        assertThat(tagDTO.getName()).isEqualTo("java");
+        assertThat(tagDTO.getPosts()).singleElement().satisfies(postDTO -> {
+            assertThat(postDTO.getId()).isEqualTo("post1");
+            assertThat(postDTO.getTitle()).isEqualTo("Title");
+            assertThat(postDTO.getContent()).isNull();
+            assertThat(postDTO.getDate()).isNull();
+            assertThat(postDTO.getBlog()).isNull();
+            assertThat(postDTO.getTags()).isNull();
+        });
+    }
+
+    @Test
+    void shouldMapTagWithoutPosts() {
+        TagDTO tagDTO = tagMapper.toDto(new Tag().id("tag1").name("java"));
+
+        assertThat(tagDTO.getPosts()).isEmpty();
+    }
+}
@@ -1,6 +1,7 @@
 package org.jhipster.blog.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.jhipster.blog.domain.BlogAsserts.*;
 import static org.jhipster.blog.web.rest.TestUtil.createUpdateProxyForBean;
@@ -12,8 +13,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.UUID;
 import org.jhipster.blog.IntegrationTest;
 import org.jhipster.blog.domain.Blog;
+import org.jhipster.blog.domain.User;
 import org.jhipster.blog.repository.BlogRepository;
 import org.jhipster.blog.repository.UserRepository;
+import org.jhipster.blog.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +25,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * Integration tests for the {@link BlogResource} REST controller.
@@ -49,6 +53,9 @@ class BlogResourceIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
     @Autowired
     private MockMvc restBlogMockMvc;
 
@@ -111,6 +118,90 @@ class BlogResourceIT {
         insertedBlog = returnedBlog;
     }
 
+    @Test
+    void createBlogWithExistingUser() throws Exception {
+        // Initialize the database with a user synced from the IdP
+        User user = userRepository.save(UserResourceIT.createEntity());
+        // The user is only referenced by its id and login
+        User userReference = new User();
+        userReference.setId(user.getId());
+        userReference.setLogin(user.getLogin());
+        blog.setUser(userReference);
+
+        var returnedBlog = om.readValue(
+            restBlogMockMvc
+                .perform(post(ENTITY_API_URL).with(csrf()).contentType(MediaType.APPLICATION_JSON).content(om.writeValueAsBytes(blog)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.user.id").value(user.getId()))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Blog.class
+        );
+        insertedBlog = returnedBlog;
+
+        // The user was linked without being overwritten by its reference
+        assertThat(userRepository.findById(user.getId())).hasValueSatisfying(persistedUser ->
+            assertThat(persistedUser.getFirstName()).isEqualTo(user.getFirstName())
+        );
+    }
+
+    @Test
+    void createBlogAfterUserRemoved() throws Exception {
+        // Initialize the database with a first blog, after which its user is known by the service
+        User user = UserResourceIT.createEntity();
+        byte[] firstBlogContent = om.writeValueAsBytes(createEntity().user(user));
+        Blog firstBlog = om.readValue(
+            restBlogMockMvc
+                .perform(post(ENTITY_API_URL).with(csrf()).contentType(MediaType.APPLICATION_JSON).content(firstBlogContent))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(),
+            Blog.class
+        );
+        userRepository.deleteById(user.getId());
+
+        try {
+            // The removed user node is merged again, so the new blog is still linked to its user
+            byte[] blogContent = om.writeValueAsBytes(blog.user(user));
+            insertedBlog = om.readValue(
+                restBlogMockMvc
+                    .perform(post(ENTITY_API_URL).with(csrf()).contentType(MediaType.APPLICATION_JSON).content(blogContent))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.user.id").value(user.getId()))
+                    .andExpect(jsonPath("$.user.login").value(user.getLogin()))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString(),
+                Blog.class
+            );
+        } finally {
+            blogRepository.deleteById(firstBlog.getId());
+        }
+    }
+
+    @Test
+    void getBlogAfterUserRenamed() throws Exception {
+        // Initialize the database with a blog, which is then cached with the login of its user
+        User user = UserResourceIT.createEntity();
+        userService.registerUserReference(user);
+        insertedBlog = blogRepository.create(blog.user(user));
+        restBlogMockMvc.perform(get(ENTITY_API_URL_ID, insertedBlog.getId())).andExpect(jsonPath("$.user.login").value(user.getLogin()));
+
+        // Reference the user with a new login from another blog
+        User renamedUser = new User();
+        renamedUser.setId(user.getId());
+        renamedUser.setLogin("renamed-" + user.getLogin());
+        userService.registerUserReference(renamedUser);
+
+        // The cached blog must not be returned anymore
+        restBlogMockMvc
+            .perform(get(ENTITY_API_URL_ID, insertedBlog.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.user.login").value(renamedUser.getLogin()));
+    }
+
     @Test
     void createBlogWithExistingId() throws Exception {
         // Create the Blog with an existing ID
@@ -171,6 +262,23 @@ class BlogResourceIT {
             .andExpect(jsonPath("$.[*].handle").value(hasItem(DEFAULT_HANDLE)));
     }
 
+    @Test
+    void getAllBlogsAsStream() throws Exception {
+        // Initialize the database
+        insertedBlog = blogRepository.save(blog);
+
+        // Get all the blogs as a stream
+        MvcResult mvcResult = restBlogMockMvc
+            .perform(get(ENTITY_API_URL).accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restBlogMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("\"id\":\"" + blog.getId() + "\"")));
+    }
+
     @Test
     void getBlog() throws Exception {
         // Initialize the database
@@ -185,6 +293,23 @@ class BlogResourceIT {
             .andExpect(jsonPath("$.handle").value(DEFAULT_HANDLE));
     }
 
+    @Test
+    void getBlogWithBoundedUser() throws Exception {
+        // Initialize the database with a blog whose user has a name and an email
+        User user = UserResourceIT.createEntity();
+        userService.registerUserReference(user);
+        insertedBlog = blogRepository.create(blog.user(user));
+
+        // Get the blog, its user only carries its id and login
+        restBlogMockMvc
+            .perform(get(ENTITY_API_URL_ID, insertedBlog.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.user.id").value(user.getId()))
+            .andExpect(jsonPath("$.user.login").value(user.getLogin()))
+            .andExpect(jsonPath("$.user.email").doesNotExist())
+            .andExpect(jsonPath("$.user.firstName").doesNotExist());
+    }
+
     @Test
     void getNonExistingBlog() throws Exception {
         // Get the blog
@@ -327,7 +452,7 @@ class BlogResourceIT {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         blog.setId(UUID.randomUUID().toString());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, nothing is updated
         restBlogMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, blog.getId())
@@ -335,7 +460,7 @@ class BlogResourceIT {
                     .contentType("application/merge-patch+json")
                     .content(om.writeValueAsBytes(blog))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Blog in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
@@ -2,6 +2,7 @@ package org.jhipster.blog.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.jhipster.blog.domain.PostAsserts.*;
 import static org.jhipster.blog.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -13,8 +14,14 @@ import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 import org.jhipster.blog.IntegrationTest;
+import org.jhipster.blog.domain.Blog;
 import org.jhipster.blog.domain.Post;
+import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.domain.User;
+import org.jhipster.blog.repository.BlogRepository;
 import org.jhipster.blog.repository.PostRepository;
+import org.jhipster.blog.repository.TagRepository;
+import org.jhipster.blog.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +57,15 @@ class PostResourceIT {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private BlogRepository blogRepository;
+
+    @Autowired
+    private UserService userService;
+
     @Autowired
     private MockMvc restPostMockMvc;
 
@@ -172,6 +188,69 @@ class PostResourceIT {
             .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())));
     }
 
+    @Test
+    void getAllPostsAsSummary() throws Exception {
+        // Initialize the database
+        Tag tag = tagRepository.save(TagResourceIT.createEntity());
+        insertedPost = postRepository.save(post.addTag(tag));
+
+        try {
+            // Get the postList without the contents
+            restPostMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=id,desc&summary=true"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+                .andExpect(jsonPath("$.[*].content").value(not(hasItem(DEFAULT_CONTENT))))
+                .andExpect(jsonPath("$.[*].tags[*].id").value(hasItem(tag.getId())));
+        } finally {
+            tagRepository.delete(tag);
+        }
+    }
+
+    @Test
+    void searchPosts() throws Exception {
+        // Initialize the database
+        String word = "w" + UUID.randomUUID().toString().replace("-", "");
+        insertedPost = postRepository.save(post.content(DEFAULT_CONTENT + " " + word));
+
+        // Search the posts, the special characters of the query are read as plain text
+        restPostMockMvc
+            .perform(get("/api/_search/posts").param("query", word.toUpperCase() + " (").param("sort", "title,desc"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[0].id").value(post.getId()))
+            .andExpect(jsonPath("$.[0].title").value(DEFAULT_TITLE))
+            .andExpect(jsonPath("$.[0].score").isNumber())
+            .andExpect(jsonPath("$.[0].content").doesNotExist());
+    }
+
+    @Test
+    void getAllPostsAfterTagUpdate() throws Exception {
+        // Initialize the database
+        Tag tag = tagRepository.save(TagResourceIT.createEntity());
+        insertedPost = postRepository.save(post.addTag(tag));
+        String updatedName = UUID.randomUUID().toString();
+
+        try {
+            // Get the postList, which is cached with the names of the tags
+            restPostMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].tags[*].name").value(hasItem(tag.getName())));
+
+            // Rename the tag, the cached postList must not be returned anymore
+            tagRepository.partialUpdate(new Tag().id(tag.getId()).name(updatedName));
+            restPostMockMvc
+                .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].tags[*].name").value(hasItem(updatedName)));
+        } finally {
+            tagRepository.delete(tag);
+        }
+    }
+
     @Test
     void getPost() throws Exception {
         // Initialize the database
@@ -187,6 +266,35 @@ class PostResourceIT {
             .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()));
     }
 
+    @Test
+    void getPostWithBoundedRelationships() throws Exception {
+        // Initialize the database with a post whose blog has a user and whose tag has other posts
+        User user = UserResourceIT.createEntity();
+        userService.registerUserReference(user);
+        Blog blog = blogRepository.create(BlogResourceIT.createEntity().user(user));
+        Tag tag = tagRepository.save(TagResourceIT.createEntity());
+        Post otherPost = postRepository.save(createEntity().addTag(tag));
+        insertedPost = postRepository.save(post.blog(blog).addTag(tag));
+
+        try {
+            // Get the post, its blog and tags only carry their id and name
+            restPostMockMvc
+                .perform(get(ENTITY_API_URL_ID, post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.blog.id").value(blog.getId()))
+                .andExpect(jsonPath("$.blog.name").value(blog.getName()))
+                .andExpect(jsonPath("$.blog.handle").doesNotExist())
+                .andExpect(jsonPath("$.blog.user").doesNotExist())
+                .andExpect(jsonPath("$.tags[0].id").value(tag.getId()))
+                .andExpect(jsonPath("$.tags[0].name").value(tag.getName()))
+                .andExpect(jsonPath("$.tags[0].posts").doesNotExist());
+        } finally {
+            postRepository.delete(otherPost);
+            tagRepository.delete(tag);
+            blogRepository.delete(blog);
+        }
+    }
+
     @Test
     void getNonExistingPost() throws Exception {
         // Get the post
@@ -329,7 +437,7 @@ class PostResourceIT {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         post.setId(UUID.randomUUID().toString());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, nothing is updated
         restPostMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, post.getId())
@@ -337,7 +445,7 @@ class PostResourceIT {
                     .contentType("application/merge-patch+json")
                     .content(om.writeValueAsBytes(post))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Post in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
@@ -11,13 +11,16 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.UUID;
 import org.jhipster.blog.IntegrationTest;
+import org.jhipster.blog.domain.Post;
 import org.jhipster.blog.domain.Tag;
+import org.jhipster.blog.repository.PostRepository;
 import org.jhipster.blog.repository.TagRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -42,6 +45,9 @@ class TagResourceIT {
     @Autowired
     private TagRepository tagRepository;
 
+    @Autowired
+    private PostRepository postRepository;
+
     @Autowired
     private MockMvc restTagMockMvc;
 
@@ -147,6 +153,59 @@ class TagResourceIT {
             .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
     }
 
+    @Test
+    void getAllTagStats() throws Exception {
+        // Initialize the database
+        insertedTag = tagRepository.save(tag);
+        postRepository.save(PostResourceIT.createEntity().addTag(tag));
+
+        try {
+            // Get the stats, which are cached
+            restTagMockMvc
+                .perform(get(ENTITY_API_URL + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.[?(@.id == '" + tag.getId() + "')].name").value(hasItem(DEFAULT_NAME)))
+                .andExpect(jsonPath("$.[?(@.id == '" + tag.getId() + "')].postCount").value(hasItem(1)));
+
+            // Tag another post, the cached stats must not be returned anymore
+            postRepository.save(PostResourceIT.createEntity().addTag(tag));
+            restTagMockMvc
+                .perform(get(ENTITY_API_URL + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[?(@.id == '" + tag.getId() + "')].postCount").value(hasItem(2)));
+        } finally {
+            postRepository.deleteAll(postRepository.findAllByTag(tag.getId(), Pageable.unpaged()));
+        }
+    }
+
+    @Test
+    void getTagPosts() throws Exception {
+        // Initialize the database
+        insertedTag = tagRepository.save(tag);
+        Post post = postRepository.save(PostResourceIT.createEntity().addTag(tag));
+
+        try {
+            // Get the posts of the tag, without their content
+            restTagMockMvc
+                .perform(get(ENTITY_API_URL_ID + "/posts?sort=id,desc", tag.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(header().string("X-Total-Count", "1"))
+                .andExpect(jsonPath("$.[0].id").value(post.getId()))
+                .andExpect(jsonPath("$.[0].tags[*].id").value(hasItem(tag.getId())))
+                .andExpect(jsonPath("$.[0].content").doesNotExist());
+        } finally {
+            postRepository.delete(post);
+        }
+    }
+
+    @Test
+    void getPostsOfNonExistingTag() throws Exception {
+        // Get the posts of the tag
+        restTagMockMvc.perform(get(ENTITY_API_URL_ID + "/posts", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     void getTag() throws Exception {
         // Initialize the database
@@ -160,6 +219,29 @@ class TagResourceIT {
             .andExpect(jsonPath("$.name").value(DEFAULT_NAME));
     }
 
+    @Test
+    void getTagWithBoundedPosts() throws Exception {
+        // Initialize the database with a tag whose post has another tag
+        insertedTag = tagRepository.save(tag);
+        Tag otherTag = tagRepository.save(createEntity());
+        Post post = postRepository.save(PostResourceIT.createEntity().addTag(tag).addTag(otherTag));
+
+        try {
+            // Get the tag, its posts only carry their id and title
+            restTagMockMvc
+                .perform(get(ENTITY_API_URL_ID, tag.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts[0].id").value(post.getId()))
+                .andExpect(jsonPath("$.posts[0].title").value(post.getTitle()))
+                .andExpect(jsonPath("$.posts[0].content").doesNotExist())
+                .andExpect(jsonPath("$.posts[0].tags").doesNotExist())
+                .andExpect(jsonPath("$.posts[0].blog").doesNotExist());
+        } finally {
+            postRepository.delete(post);
+            tagRepository.delete(otherTag);
+        }
+    }
+
     @Test
     void getNonExistingTag() throws Exception {
         // Get the tag
@@ -299,7 +381,7 @@ class TagResourceIT {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         tag.setId(UUID.randomUUID().toString());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, nothing is updated
         restTagMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, tag.getId())
@@ -307,7 +389,7 @@ class TagResourceIT {
                     .contentType("application/merge-patch+json")
                     .content(om.writeValueAsBytes(tag))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Tag in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
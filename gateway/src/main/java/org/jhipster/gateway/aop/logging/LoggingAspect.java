@@ -1,6 +1,9 @@
 package org.jhipster.gateway.aop.logging;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -11,20 +14,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import tech.jhipster.config.JHipsterConstants;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * By default, it only runs with the "dev" profile. It is enabled with {@code application.logging-aspect.enabled}, and only a
+ * sample of the calls is logged when {@code application.logging-aspect.sample-rate} is lower than 1.
+ * For reactive return types, the emitted values and errors are logged instead of the {@link Mono} or {@link Flux} itself.
  */
 @Aspect
 public class LoggingAspect {
 
-    private final Environment env;
+    private final boolean development;
 
-    public LoggingAspect(Environment env) {
-        this.env = env;
+    private final double sampleRate;
+
+    private final double errorSampleRate;
+
+    // An error goes through every proxied layer, so it is sampled once and then logged by all of them or by none
+    private final Cache<Throwable, Boolean> errorSamples = Caffeine.newBuilder().weakKeys().maximumSize(10_000).build();
+
+    public LoggingAspect(Environment env, double sampleRate, double errorSampleRate) {
+        this.development = env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT));
+        this.sampleRate = sampleRate;
+        this.errorSampleRate = errorSampleRate;
     }
 
     /**
@@ -61,6 +77,29 @@ public class LoggingAspect {
         return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
     }
 
+    /**
+     * Decides if the current call is logged.
+     *
+     * @param rate share of the calls to log, between 0 and 1.
+     * @return {@code true} if the call must be logged.
+     */
+    private static boolean isSampled(double rate) {
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * Decides if an error is logged, the same way for every layer it goes through.
+     *
+     * @param e the error.
+     * @return {@code true} if the error must be logged.
+     */
+    private boolean isErrorSampled(Throwable e) {
+        if (errorSampleRate >= 1.0 || errorSampleRate <= 0.0) {
+            return errorSampleRate >= 1.0;
+        }
+        return errorSamples.get(e, error -> isSampled(errorSampleRate));
+    }
+
     /**
      * Advice that logs methods throwing exceptions.
      *
@@ -69,20 +108,22 @@ public class LoggingAspect {
      */
     @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
-            logger(joinPoint).error(
+        if (isErrorSampled(e)) {
+            logError(logger(joinPoint), joinPoint.getSignature().getName(), e);
+        }
+    }
+
+    private void logError(Logger log, String methodName, Throwable e) {
+        if (development) {
+            log.error(
                 "Exception in {}() with cause = '{}' and exception = '{}'",
-                joinPoint.getSignature().getName(),
+                methodName,
                 e.getCause() != null ? e.getCause() : "NULL",
                 e.getMessage(),
                 e
             );
         } else {
-            logger(joinPoint).error(
-                "Exception in {}() with cause = {}",
-                joinPoint.getSignature().getName(),
-                e.getCause() != null ? String.valueOf(e.getCause()) : "NULL"
-            );
+            log.error("Exception in {}() with cause = {}", methodName, e.getCause() != null ? String.valueOf(e.getCause()) : "NULL");
         }
     }
 
@@ -96,18 +137,50 @@ public class LoggingAspect {
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
         Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
+        // Arguments and results are only turned into strings for the sampled calls
+        boolean logCall = log.isDebugEnabled() && isSampled(sampleRate);
+        if (logCall) {
             log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
         }
         try {
             Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
-            }
-            return result;
+            return logResult(log, joinPoint.getSignature().getName(), result, logCall);
         } catch (IllegalArgumentException e) {
             log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
             throw e;
         }
     }
+
+    private Object logResult(Logger log, String methodName, Object result, boolean logCall) {
+        if (result instanceof Mono<?> mono) {
+            if (logCall) {
+                mono = mono.doOnSuccess(value -> log.debug("Exit: {}() with result = {}", methodName, value));
+            }
+            if (errorSampleRate > 0.0) {
+                mono = mono.doOnError(e -> {
+                    if (isErrorSampled(e)) {
+                        logError(log, methodName, e);
+                    }
+                });
+            }
+            return mono;
+        }
+        if (result instanceof Flux<?> flux) {
+            if (logCall) {
+                flux = flux.doOnNext(value -> log.debug("Next: {}() with result = {}", methodName, value));
+            }
+            if (errorSampleRate > 0.0) {
+                flux = flux.doOnError(e -> {
+                    if (isErrorSampled(e)) {
+                        logError(log, methodName, e);
+                    }
+                });
+            }
+            return flux;
+        }
+        if (logCall) {
+            log.debug("Exit: {}() with result = {}", methodName, result);
+        }
+        return result;
+    }
 }
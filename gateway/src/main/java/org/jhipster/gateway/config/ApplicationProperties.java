@@ -1,5 +1,8 @@
 package org.jhipster.gateway.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,9 +13,155 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final UserSync userSync = new UserSync();
+
+    private final JwtCache jwtCache = new JwtCache();
+
+    private final Spa spa = new Spa();
+
+    private final LoggingAspect loggingAspect = new LoggingAspect();
+
+    private final UserExport userExport = new UserExport();
+
     // jhipster-needle-application-properties-property
 
+    public UserSync getUserSync() {
+        return userSync;
+    }
+
+    public JwtCache getJwtCache() {
+        return jwtCache;
+    }
+
+    public Spa getSpa() {
+        return spa;
+    }
+
+    public LoggingAspect getLoggingAspect() {
+        return loggingAspect;
+    }
+
+    public UserExport getUserExport() {
+        return userExport;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
+    public static class UserSync {
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(30);
+
+        private Duration countTimeToLive = Duration.ofMinutes(5);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public Duration getCountTimeToLive() {
+            return countTimeToLive;
+        }
+
+        public void setCountTimeToLive(Duration countTimeToLive) {
+            this.countTimeToLive = countTimeToLive;
+        }
+    }
+
+    public static class JwtCache {
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(15);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class Spa {
+
+        // Paths starting with these prefixes are never forwarded to the client index.html
+        private List<String> excludedPrefixes = new ArrayList<>(List.of("/api", "/management", "/v3/api-docs", "/login", "/oauth2", "/services"));
+
+        public List<String> getExcludedPrefixes() {
+            return excludedPrefixes;
+        }
+
+        public void setExcludedPrefixes(List<String> excludedPrefixes) {
+            this.excludedPrefixes = excludedPrefixes;
+        }
+    }
+
+    public static class LoggingAspect {
+
+        private boolean enabled = false;
+
+        private double sampleRate = 1.0;
+
+        private double errorSampleRate = 1.0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+
+        public double getErrorSampleRate() {
+            return errorSampleRate;
+        }
+
+        public void setErrorSampleRate(double errorSampleRate) {
+            this.errorSampleRate = errorSampleRate;
+        }
+    }
+
+    public static class UserExport {
+
+        private int fetchSize = 500;
+
+        public int getFetchSize() {
+            return fetchSize;
+        }
+
+        public void setFetchSize(int fetchSize) {
+            this.fetchSize = fetchSize;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
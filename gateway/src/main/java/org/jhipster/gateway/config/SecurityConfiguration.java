@@ -4,18 +4,21 @@ import static org.springframework.security.config.Customizer.withDefaults;
 import static org.springframework.security.oauth2.core.oidc.StandardClaimNames.PREFERRED_USERNAME;
 import static org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers.pathMatchers;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import org.jhipster.gateway.security.AuthoritiesConstants;
 import org.jhipster.gateway.security.SecurityUtils;
 import org.jhipster.gateway.security.oauth2.AudienceValidator;
+import org.jhipster.gateway.security.oauth2.JwtAuthenticationCache;
 import org.jhipster.gateway.web.filter.SpaWebFilter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -68,15 +71,36 @@ public class SecurityConfiguration {
 
     // See https://github.com/jhipster/generator-jhipster/issues/18868
     // We don't use a distributed cache or the user selected cache implementation here on purpose
-    private final Cache<String, Mono<Jwt>> users = Caffeine.newBuilder()
+    // User info is cached per subject rather than as a Jwt, as every token of the subject must keep its own token value
+    private final AsyncCache<String, Map<String, Object>> users = Caffeine.newBuilder()
         .maximumSize(10_000)
         .expireAfterWrite(Duration.ofHours(1))
         .recordStats()
-        .build();
+        .buildAsync();
 
-    public SecurityConfiguration(ReactiveClientRegistrationRepository clientRegistrationRepository, JHipsterProperties jHipsterProperties) {
+    // Shares the connection pool of the application's WebClient.Builder, instead of creating a client per user info lookup
+    private final WebClient webClient;
+
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+
+    private final ApplicationProperties applicationProperties;
+
+    public SecurityConfiguration(
+        ReactiveClientRegistrationRepository clientRegistrationRepository,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        WebClient.Builder webClientBuilder
+    ) {
         this.clientRegistrationRepository = clientRegistrationRepository;
         this.jHipsterProperties = jHipsterProperties;
+        this.webClient = webClientBuilder.build();
+        this.applicationProperties = applicationProperties;
+        this.jwtAuthenticationCache = new JwtAuthenticationCache(
+            applicationProperties.getJwtCache().getMaximumSize(),
+            applicationProperties.getJwtCache().getTimeToLive(),
+            meterRegistry
+        );
     }
 
     @Bean
@@ -96,7 +120,7 @@ public class SecurityConfiguration {
             )
             // See https://github.com/spring-projects/spring-security/issues/5766
             .addFilterAt(new CookieCsrfFilter(), SecurityWebFiltersOrder.REACTOR_CONTEXT)
-            .addFilterAfter(new SpaWebFilter(), SecurityWebFiltersOrder.HTTPS_REDIRECT)
+            .addFilterAfter(new SpaWebFilter(applicationProperties.getSpa().getExcludedPrefixes()), SecurityWebFiltersOrder.HTTPS_REDIRECT)
             .headers(headers ->
                 headers
                     .contentSecurityPolicy(csp -> csp.policyDirectives(jHipsterProperties.getSecurity().getContentSecurityPolicy()))
@@ -170,7 +194,7 @@ public class SecurityConfiguration {
             }
         );
         jwtAuthenticationConverter.setPrincipalClaimName(PREFERRED_USERNAME);
-        return jwtAuthenticationConverter;
+        return jwtAuthenticationCache.converter(jwtAuthenticationConverter);
     }
 
     /**
@@ -228,7 +252,7 @@ public class SecurityConfiguration {
 
         jwtDecoder.setJwtValidator(withAudience);
 
-        return new ReactiveJwtDecoder() {
+        return jwtAuthenticationCache.decoder(new ReactiveJwtDecoder() {
             @Override
             public Mono<Jwt> decode(String token) throws JwtException {
                 return jwtDecoder.decode(token).flatMap(jwt -> enrich(token, jwt));
@@ -239,42 +263,44 @@ public class SecurityConfiguration {
                 if (jwt.hasClaim("given_name") && jwt.hasClaim("family_name")) {
                     return Mono.just(jwt);
                 }
-                // Get user info from `users` cache if present
-                return Optional.ofNullable(users.getIfPresent(jwt.getSubject())).orElseGet(() -> // Retrieve user info from OAuth provider if not already loaded
-                    WebClient.create()
-                        .get()
-                        .uri(userInfoUri)
-                        .headers(headers -> headers.setBearerAuth(token))
-                        .retrieve()
-                        .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
-                        .map(userInfo ->
-                            Jwt.withTokenValue(jwt.getTokenValue())
-                                .subject(jwt.getSubject())
-                                .audience(jwt.getAudience())
-                                .headers(headers -> headers.putAll(jwt.getHeaders()))
-                                .claims(claims -> {
-                                    String username = userInfo.get("preferred_username").toString();
-                                    // special handling for Auth0
-                                    if (userInfo.get("sub").toString().contains("|") && username.contains("@")) {
-                                        userInfo.put("email", username);
-                                    }
-                                    // Allow full name in a name claim - happens with Auth0
-                                    if (userInfo.get("name") != null) {
-                                        String[] name = userInfo.get("name").toString().split("\\s+");
-                                        if (name.length > 0) {
-                                            userInfo.put("given_name", name[0]);
-                                            userInfo.put("family_name", String.join(" ", Arrays.copyOfRange(name, 1, name.length)));
-                                        }
-                                    }
-                                    claims.putAll(userInfo);
-                                })
-                                .claims(claims -> claims.putAll(jwt.getClaims()))
-                                .build()
-                        )
-                        // Put user info into the `users` cache
-                        .doOnNext(newJwt -> users.put(jwt.getSubject(), Mono.just(newJwt)))
+                // Get user info from `users` cache, concurrent lookups for the same subject share the in-flight request
+                return Mono.fromFuture(users.get(jwt.getSubject(), (subject, executor) -> fetchUserInfo(token)), true).map(userInfo ->
+                    Jwt.withTokenValue(jwt.getTokenValue())
+                        .subject(jwt.getSubject())
+                        .audience(jwt.getAudience())
+                        .headers(headers -> headers.putAll(jwt.getHeaders()))
+                        .claims(claims -> claims.putAll(userInfo))
+                        .claims(claims -> claims.putAll(jwt.getClaims()))
+                        .build()
                 );
             }
-        };
+
+            // Retrieve user info from OAuth provider if not already loaded
+            private CompletableFuture<Map<String, Object>> fetchUserInfo(String token) {
+                return webClient
+                    .get()
+                    .uri(userInfoUri)
+                    .headers(headers -> headers.setBearerAuth(token))
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                    .map(userInfo -> {
+                        String username = userInfo.get("preferred_username").toString();
+                        // special handling for Auth0
+                        if (userInfo.get("sub").toString().contains("|") && username.contains("@")) {
+                            userInfo.put("email", username);
+                        }
+                        // Allow full name in a name claim - happens with Auth0
+                        if (userInfo.get("name") != null) {
+                            String[] name = userInfo.get("name").toString().split("\\s+");
+                            if (name.length > 0) {
+                                userInfo.put("given_name", name[0]);
+                                userInfo.put("family_name", String.join(" ", Arrays.copyOfRange(name, 1, name.length)));
+                            }
+                        }
+                        return Collections.unmodifiableMap(userInfo);
+                    })
+                    .toFuture();
+            }
+        });
     }
 }
@@ -2,7 +2,11 @@ package org.jhipster.gateway.repository;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -20,7 +24,7 @@ import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJ
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectOrdered;
 import org.springframework.data.relational.core.sql.Table;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
-import org.springframework.r2dbc.core.Parameter;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
@@ -36,6 +40,11 @@ public class EntityManager {
     public static final String ENTITY_ALIAS = "e";
     public static final String ALIAS_PREFIX = "e_";
 
+    /**
+     * Maximum number of rows per multi-row insert, to stay well below the bind parameter limits of the databases.
+     */
+    public static final int LINK_TABLE_BATCH_SIZE = 500;
+
     public static class LinkTable {
 
         final String tableName;
@@ -168,27 +177,60 @@ public class EntityManager {
 
     /**
      * Updates the table, which links the entity with the referred entities.
+     * Only the links which are missing are inserted, and only the links which are no longer referenced are deleted.
      * @param table describes the link table, it contains a table name, the column name for the id, and for the referred entity id.
      * @param entityId the id of the entity, for which the links are created.
      * @param referencedIds the id of the referred entities.
      * @return the number of inserted rows.
      */
     public Mono<Long> updateLinkTable(LinkTable table, Object entityId, Stream<?> referencedIds) {
-        return deleteFromLinkTable(table, entityId).then(
-            Flux.fromStream(referencedIds)
-                .flatMap((Object referenceId) -> {
-                    StatementMapper.InsertSpec insert = r2dbcEntityTemplate
-                        .getDataAccessStrategy()
-                        .getStatementMapper()
-                        .createInsert(table.tableName)
-                        .withColumn(table.idColumn, Parameter.from(entityId))
-                        .withColumn(table.referenceColumn, Parameter.from(referenceId));
+        Assert.notNull(entityId, "entityId is null");
+        Set<Object> referenced = referencedIds.collect(Collectors.toCollection(LinkedHashSet::new));
+        if (referenced.isEmpty()) {
+            return deleteFromLinkTable(table, entityId).thenReturn(0L);
+        }
+        Class<?> referenceType = referenced.iterator().next().getClass();
+        return r2dbcEntityTemplate
+            .getDatabaseClient()
+            .sql("SELECT " + table.referenceColumn + " FROM " + table.tableName + " WHERE " + table.idColumn + " = :entityId")
+            .bind("entityId", entityId)
+            .map((row, metadata) -> (Object) row.get(table.referenceColumn, referenceType))
+            .all()
+            .collect(Collectors.toSet())
+            .flatMap(existing -> {
+                List<Object> toDelete = existing.stream().filter(referenceId -> !referenced.contains(referenceId)).toList();
+                List<Object> toInsert = referenced.stream().filter(referenceId -> !existing.contains(referenceId)).toList();
+                return deleteFromLinkTable(table, entityId, toDelete).then(insertIntoLinkTable(table, entityId, toInsert));
+            });
+    }
 
-                    return r2dbcEntityTemplate.getDatabaseClient().sql(statementMapper.getMappedObject(insert)).fetch().rowsUpdated();
-                })
-                .collectList()
-                .map((List<Long> updates) -> updates.stream().reduce(Long::sum).orElse(0l))
-        );
+    /**
+     * Inserts links between the entity and the referred entities, with one multi-row insert per {@link #LINK_TABLE_BATCH_SIZE} links.
+     * @param table describes the link table, it contains a table name, the column name for the id, and for the referred entity id.
+     * @param entityId the id of the entity, for which the links are created.
+     * @param referencedIds the id of the referred entities, which must not be linked yet.
+     * @return the number of inserted rows.
+     */
+    public Mono<Long> insertIntoLinkTable(LinkTable table, Object entityId, Collection<?> referencedIds) {
+        Assert.notNull(entityId, "entityId is null");
+        List<?> references = List.copyOf(referencedIds);
+        return Flux.range(0, (references.size() + LINK_TABLE_BATCH_SIZE - 1) / LINK_TABLE_BATCH_SIZE)
+            .map(batch -> references.subList(batch * LINK_TABLE_BATCH_SIZE, Math.min(references.size(), (batch + 1) * LINK_TABLE_BATCH_SIZE)))
+            .concatMap(batch -> {
+                StringJoiner values = new StringJoiner(", ");
+                for (int i = 0; i < batch.size(); i++) {
+                    values.add("(:entityId, :referenceId" + i + ")");
+                }
+                DatabaseClient.GenericExecuteSpec insert = r2dbcEntityTemplate
+                    .getDatabaseClient()
+                    .sql("INSERT INTO " + table.tableName + " (" + table.idColumn + ", " + table.referenceColumn + ") VALUES " + values)
+                    .bind("entityId", entityId);
+                for (int i = 0; i < batch.size(); i++) {
+                    insert = insert.bind("referenceId" + i, batch.get(i));
+                }
+                return insert.fetch().rowsUpdated();
+            })
+            .reduce(0L, Long::sum);
     }
 
     public Mono<Void> deleteFromLinkTable(LinkTable table, Object entityId) {
@@ -201,6 +243,18 @@ public class EntityManager {
         return r2dbcEntityTemplate.getDatabaseClient().sql(statementMapper.getMappedObject(deleteSpec)).then();
     }
 
+    private Mono<Void> deleteFromLinkTable(LinkTable table, Object entityId, Collection<?> referencedIds) {
+        if (referencedIds.isEmpty()) {
+            return Mono.empty();
+        }
+        StatementMapper.DeleteSpec deleteSpec = r2dbcEntityTemplate
+            .getDataAccessStrategy()
+            .getStatementMapper()
+            .createDelete(table.tableName)
+            .withCriteria(Criteria.where(table.idColumn).is(entityId).and(table.referenceColumn).in(referencedIds));
+        return r2dbcEntityTemplate.getDatabaseClient().sql(statementMapper.getMappedObject(deleteSpec)).then();
+    }
+
     private String createSelectImpl(SelectOrdered selectFrom, Class<?> entityType, Sort sortParameter) {
         if (sortParameter != null && sortParameter.isSorted()) {
             RelationalPersistentEntity<?> entity = getPersistentEntity(entityType);
@@ -3,15 +3,19 @@ package org.jhipster.gateway.repository;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import org.apache.commons.beanutils.BeanComparator;
 import org.jhipster.gateway.domain.Authority;
 import org.jhipster.gateway.domain.User;
+import org.jhipster.gateway.repository.rowmapper.UserRowMapper;
 import org.springframework.data.domain.*;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
+import org.springframework.data.relational.core.sql.Table;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
@@ -30,6 +34,8 @@ public interface UserRepository extends R2dbcRepository<User, String>, UserRepos
 
     Flux<User> findAllByIdNotNullAndActivatedIsTrue(Pageable pageable);
 
+    Mono<Long> countAllByIdNotNullAndActivatedIsTrue();
+
     Mono<Long> count();
 
     @Query("INSERT INTO jhi_user_authority VALUES(:userId, :authority)")
@@ -48,6 +54,8 @@ interface UserRepositoryInternal {
     Mono<User> create(User user);
 
     Flux<User> findAllWithAuthorities(Pageable pageable);
+
+    Flux<User> streamAllWithAuthorities(int fetchSize);
 }
 
 class UserRepositoryInternalImpl implements UserRepositoryInternal {
@@ -55,11 +63,23 @@ class UserRepositoryInternalImpl implements UserRepositoryInternal {
     private final DatabaseClient db;
     private final R2dbcEntityTemplate r2dbcEntityTemplate;
     private final R2dbcConverter r2dbcConverter;
-
-    public UserRepositoryInternalImpl(DatabaseClient db, R2dbcEntityTemplate r2dbcEntityTemplate, R2dbcConverter r2dbcConverter) {
+    private final EntityManager entityManager;
+    private final UserRowMapper userRowMapper;
+
+    private final Table entityTable = Table.aliased("jhi_user", EntityManager.ENTITY_ALIAS);
+
+    public UserRepositoryInternalImpl(
+        DatabaseClient db,
+        R2dbcEntityTemplate r2dbcEntityTemplate,
+        R2dbcConverter r2dbcConverter,
+        EntityManager entityManager,
+        UserRowMapper userRowMapper
+    ) {
         this.db = db;
         this.r2dbcEntityTemplate = r2dbcEntityTemplate;
         this.r2dbcConverter = r2dbcConverter;
+        this.entityManager = entityManager;
+        this.userRowMapper = userRowMapper;
     }
 
     @Override
@@ -69,28 +89,31 @@ class UserRepositoryInternalImpl implements UserRepositoryInternal {
 
     @Override
     public Flux<User> findAllWithAuthorities(Pageable pageable) {
-        String property = pageable.getSort().stream().map(Sort.Order::getProperty).findFirst().orElse("id");
-        String direction = String.valueOf(
-            pageable.getSort().stream().map(Sort.Order::getDirection).findFirst().orElse(Sort.DEFAULT_DIRECTION)
-        );
-        long page = pageable.getPageNumber();
-        long size = pageable.getPageSize();
+        // Page over jhi_user alone, so that sorting, offset and limit are applied by the database
+        List<Expression> columns = UserSqlHelper.getColumns(entityTable, EntityManager.ENTITY_ALIAS);
+        SelectFromAndJoin selectFrom = Select.builder().select(columns).from(entityTable);
+        String select = entityManager.createSelect(selectFrom, User.class, withDefaultSort(pageable), null);
+
+        return db
+            .sql(select)
+            .map((row, metadata) -> userRowMapper.apply(row, EntityManager.ENTITY_ALIAS))
+            .all()
+            .collectList()
+            .flatMapMany(this::fetchAuthorities);
+    }
 
+    @Override
+    public Flux<User> streamAllWithAuthorities(int fetchSize) {
+        // Rows are fetched from a cursor as the subscriber requests them, and grouped per user thanks to the ordering on the user id
         return db
-            .sql("SELECT * FROM jhi_user u LEFT JOIN jhi_user_authority ua ON u.id=ua.user_id")
+            .sql("SELECT * FROM jhi_user u LEFT JOIN jhi_user_authority ua ON u.id=ua.user_id ORDER BY u.id")
+            .filter((statement, next) -> next.execute(statement.fetchSize(fetchSize)))
             .map((row, metadata) ->
                 Tuples.of(r2dbcConverter.read(User.class, row, metadata), Optional.ofNullable(row.get("authority_name", String.class)))
             )
             .all()
-            .groupBy(t -> t.getT1().getLogin())
-            .flatMap(l -> l.collectList().map(t -> updateUserWithAuthorities(t.get(0).getT1(), t)))
-            .sort(
-                Sort.Direction.fromString(direction) == Sort.DEFAULT_DIRECTION
-                    ? new BeanComparator<>(property)
-                    : new BeanComparator<>(property).reversed()
-            )
-            .skip(page * size)
-            .take(size);
+            .bufferUntilChanged(t -> t.getT1().getId())
+            .map(l -> updateUserWithAuthorities(l.get(0).getT1(), l));
     }
 
     @Override
@@ -111,6 +134,48 @@ class UserRepositoryInternalImpl implements UserRepositoryInternal {
             .map(l -> updateUserWithAuthorities(l.get(0).getT1(), l));
     }
 
+    /**
+     * Loads the authorities of the given page of users with a single query, keeping the order of the page.
+     */
+    private Flux<User> fetchAuthorities(List<User> users) {
+        if (users.isEmpty()) {
+            return Flux.empty();
+        }
+        List<String> userIds = users.stream().map(User::getId).toList();
+        return db
+            .sql("SELECT user_id, authority_name FROM jhi_user_authority WHERE user_id IN (:userIds)")
+            .bind("userIds", userIds)
+            .map((row, metadata) -> Tuples.of(row.get("user_id", String.class), row.get("authority_name", String.class)))
+            .all()
+            .collectMultimap(Tuple2::getT1, Tuple2::getT2)
+            .flatMapIterable(authoritiesByUserId -> {
+                users.forEach(user ->
+                    user.setAuthorities(
+                        authoritiesByUserId
+                            .getOrDefault(user.getId(), List.of())
+                            .stream()
+                            .map(name -> {
+                                Authority authority = new Authority();
+                                authority.setName(name);
+                                return authority;
+                            })
+                            .collect(Collectors.toSet())
+                    )
+                );
+                return users;
+            });
+    }
+
+    /**
+     * Sorts by id when the request doesn't specify an order, so that pages are stable.
+     */
+    private static Pageable withDefaultSort(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().isSorted()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"));
+    }
+
     private User updateUserWithAuthorities(User user, List<Tuple2<User, Optional<String>>> tuples) {
         user.setAuthorities(
             tuples
@@ -1,6 +1,7 @@
 package org.jhipster.gateway.repository.rowmapper;
 
 import io.r2dbc.spi.Row;
+import java.time.Instant;
 import java.util.function.BiFunction;
 import org.jhipster.gateway.domain.User;
 import org.springframework.stereotype.Service;
@@ -32,6 +33,10 @@ public class UserRowMapper implements BiFunction<Row, String, User> {
         entity.setActivated(Boolean.TRUE.equals(converter.fromRow(row, prefix + "_activated", Boolean.class)));
         entity.setLangKey(converter.fromRow(row, prefix + "_lang_key", String.class));
         entity.setImageUrl(converter.fromRow(row, prefix + "_image_url", String.class));
+        entity.setCreatedBy(converter.fromRow(row, prefix + "_created_by", String.class));
+        entity.setCreatedDate(converter.fromRow(row, prefix + "_created_date", Instant.class));
+        entity.setLastModifiedBy(converter.fromRow(row, prefix + "_last_modified_by", String.class));
+        entity.setLastModifiedDate(converter.fromRow(row, prefix + "_last_modified_date", Instant.class));
         return entity;
     }
 }
@@ -0,0 +1,131 @@
+package org.jhipster.gateway.security.oauth2;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches decoded JWTs, and the authentications converted from them, so that hot tokens are only verified once.
+ * <p>
+ * Entries are keyed by a SHA-256 hash of the token value and never outlive the {@code exp} claim of the token.
+ */
+public class JwtAuthenticationCache {
+
+    private final Duration maximumTimeToLive;
+
+    private final Clock clock;
+
+    private final Cache<String, Jwt> jwts;
+
+    private final Cache<String, AbstractAuthenticationToken> authentications;
+
+    public JwtAuthenticationCache(long maximumSize, Duration maximumTimeToLive, MeterRegistry meterRegistry) {
+        this(maximumSize, maximumTimeToLive, meterRegistry, Clock.systemUTC());
+    }
+
+    JwtAuthenticationCache(long maximumSize, Duration maximumTimeToLive, MeterRegistry meterRegistry, Clock clock) {
+        this.maximumTimeToLive = maximumTimeToLive;
+        this.clock = clock;
+        this.jwts = buildCache(maximumSize, Jwt::getExpiresAt);
+        this.authentications = buildCache(maximumSize, authentication ->
+            authentication instanceof JwtAuthenticationToken jwtAuthentication ? jwtAuthentication.getToken().getExpiresAt() : null
+        );
+        CaffeineCacheMetrics.monitor(meterRegistry, jwts, "jwtDecoder");
+        CaffeineCacheMetrics.monitor(meterRegistry, authentications, "jwtAuthentications");
+    }
+
+    /**
+     * Wraps a decoder, so that a token is only decoded and validated again once it has left the cache.
+     *
+     * @param delegate the decoder verifying the tokens.
+     * @return the caching decoder.
+     */
+    public ReactiveJwtDecoder decoder(ReactiveJwtDecoder delegate) {
+        return token -> {
+            String key = hash(token);
+            Jwt jwt = jwts.getIfPresent(key);
+            if (jwt != null) {
+                return Mono.just(jwt);
+            }
+            return delegate.decode(token).doOnNext(decoded -> jwts.put(key, decoded));
+        };
+    }
+
+    /**
+     * Wraps an authentication converter, so that the authorities of a token are only extracted once.
+     *
+     * @param delegate the converter creating the authentication.
+     * @return the caching converter.
+     */
+    public Converter<Jwt, Mono<AbstractAuthenticationToken>> converter(Converter<Jwt, Mono<AbstractAuthenticationToken>> delegate) {
+        return jwt -> {
+            String key = hash(jwt.getTokenValue());
+            AbstractAuthenticationToken authentication = authentications.getIfPresent(key);
+            if (authentication != null) {
+                return Mono.just(authentication);
+            }
+            return delegate.convert(jwt).doOnNext(converted -> authentications.put(key, converted));
+        };
+    }
+
+    private <V> Cache<String, V> buildCache(long maximumSize, Function<V, Instant> expiresAt) {
+        return Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(
+                new Expiry<String, V>() {
+                    @Override
+                    public long expireAfterCreate(String key, V value, long currentTime) {
+                        return timeToLive(expiresAt.apply(value)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+                        return timeToLive(expiresAt.apply(value)).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                }
+            )
+            .recordStats()
+            .build();
+    }
+
+    private Duration timeToLive(Instant expiresAt) {
+        if (expiresAt == null) {
+            return maximumTimeToLive;
+        }
+        Duration remaining = Duration.between(clock.instant(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maximumTimeToLive) < 0 ? remaining : maximumTimeToLive;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package org.jhipster.gateway.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import org.jhipster.gateway.config.ApplicationProperties;
 import org.jhipster.gateway.config.Constants;
 import org.jhipster.gateway.domain.Authority;
 import org.jhipster.gateway.domain.User;
 import org.jhipster.gateway.repository.AuthorityRepository;
+import org.jhipster.gateway.repository.EntityManager;
 import org.jhipster.gateway.repository.UserRepository;
 import org.jhipster.gateway.security.SecurityUtils;
 import org.jhipster.gateway.service.dto.AdminUserDTO;
@@ -19,7 +29,12 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.DigestUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -31,13 +46,62 @@ public class UserService {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserService.class);
 
+    private static final EntityManager.LinkTable USER_AUTHORITY_LINK = new EntityManager.LinkTable(
+        "jhi_user_authority",
+        "user_id",
+        "authority_name"
+    );
+
     private final UserRepository userRepository;
 
     private final AuthorityRepository authorityRepository;
 
-    public UserService(UserRepository userRepository, AuthorityRepository authorityRepository) {
+    private final EntityManager entityManager;
+
+    private final TransactionalOperator transactionalOperator;
+
+    // Last synced claims per subject, so that unchanged tokens don't hit the database.
+    // We don't use a distributed cache on purpose: a missing fingerprint only costs one extra sync.
+    private final Cache<String, String> syncFingerprints;
+
+    private final Counter syncWrites;
+
+    private final int exportFetchSize;
+
+    private final Duration publicUsersCountTimeToLive;
+
+    // Each invalidation sets a new expired instance, so that a count read before it is never cached after it
+    private final AtomicReference<PublicUsersCount> publicUsersCount = new AtomicReference<>(PublicUsersCount.expired());
+
+    private record PublicUsersCount(long count, Instant expiresAt) {
+        private static PublicUsersCount expired() {
+            return new PublicUsersCount(0, Instant.EPOCH);
+        }
+    }
+
+    public UserService(
+        UserRepository userRepository,
+        AuthorityRepository authorityRepository,
+        EntityManager entityManager,
+        TransactionalOperator transactionalOperator,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
         this.userRepository = userRepository;
         this.authorityRepository = authorityRepository;
+        this.entityManager = entityManager;
+        this.transactionalOperator = transactionalOperator;
+        this.exportFetchSize = applicationProperties.getUserExport().getFetchSize();
+        this.publicUsersCountTimeToLive = applicationProperties.getUserSync().getCountTimeToLive();
+        this.syncFingerprints = Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getUserSync().getMaximumSize())
+            .expireAfterWrite(applicationProperties.getUserSync().getTimeToLive())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, syncFingerprints, "userSyncFingerprints");
+        this.syncWrites = Counter.builder("user.sync.writes")
+            .description("Number of users written to the local database while syncing with the IdP")
+            .register(meterRegistry);
     }
 
     /**
@@ -86,15 +150,28 @@ public class UserService {
                 // once https://github.com/spring-projects/spring-data-r2dbc/issues/215 is done
                 Mono<User> persistedUser;
                 if (forceCreate) {
-                    persistedUser = userRepository.create(user);
+                    persistedUser = userRepository
+                        .create(user)
+                        .flatMap(createdUser ->
+                            createdUser.isActivated()
+                                ? invalidatePublicUsersCountAfterCommit().thenReturn(createdUser)
+                                : Mono.just(createdUser)
+                        );
                 } else {
-                    persistedUser = userRepository.save(user);
+                    // The previous activation state is unknown here, so the count is reloaded on next use
+                    persistedUser = userRepository
+                        .save(user)
+                        .flatMap(savedUser -> invalidatePublicUsersCountAfterCommit().thenReturn(savedUser));
                 }
-                return persistedUser.flatMap(savedUser ->
-                    Flux.fromIterable(user.getAuthorities())
-                        .flatMap(authority -> userRepository.saveUserAuthority(savedUser.getId(), authority.getName()))
-                        .then(Mono.just(savedUser))
-                );
+                // Users loaded without their authorities keep their existing links
+                return persistedUser.flatMap(savedUser -> {
+                    if (user.getAuthorities().isEmpty()) {
+                        return Mono.just(savedUser);
+                    }
+                    return entityManager
+                        .updateLinkTable(USER_AUTHORITY_LINK, savedUser.getId(), user.getAuthorities().stream().map(Authority::getName))
+                        .thenReturn(savedUser);
+                });
             });
     }
 
@@ -103,6 +180,16 @@ public class UserService {
         return userRepository.findAllWithAuthorities(pageable).map(AdminUserDTO::new);
     }
 
+    /**
+     * Streams all the users with their authorities, reading them from the database as the subscriber requests them.
+     *
+     * @return all the users.
+     */
+    @Transactional(readOnly = true)
+    public Flux<AdminUserDTO> streamAllManagedUsers() {
+        return userRepository.streamAllWithAuthorities(exportFetchSize).map(AdminUserDTO::new);
+    }
+
     @Transactional(readOnly = true)
     public Flux<UserDTO> getAllPublicUsers(Pageable pageable) {
         return userRepository.findAllByIdNotNullAndActivatedIsTrue(pageable).map(UserDTO::new);
@@ -113,6 +200,50 @@ public class UserService {
         return userRepository.count();
     }
 
+    /**
+     * Counts the users returned by {@link #getAllPublicUsers(Pageable)}.
+     * <p>
+     * The count is cached: it is reloaded once a user saved through {@link #saveUser(User, boolean)} is committed,
+     * or once its time to live has elapsed.
+     *
+     * @return the number of activated users.
+     */
+    @Transactional(readOnly = true)
+    public Mono<Long> countPublicUsers() {
+        return Mono.defer(() -> {
+            PublicUsersCount cached = publicUsersCount.get();
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                return Mono.just(cached.count());
+            }
+            // The count is dropped if a user was saved while it was read
+            return userRepository
+                .countAllByIdNotNullAndActivatedIsTrue()
+                .doOnNext(count ->
+                    publicUsersCount.compareAndSet(cached, new PublicUsersCount(count, Instant.now().plus(publicUsersCountTimeToLive)))
+                );
+        });
+    }
+
+    private Mono<Void> invalidatePublicUsersCountAfterCommit() {
+        Runnable invalidate = () -> publicUsersCount.set(PublicUsersCount.expired());
+        return TransactionSynchronizationManager.forCurrentTransaction()
+            .flatMap(synchronizationManager -> {
+                if (!synchronizationManager.isSynchronizationActive()) {
+                    return Mono.<Void>fromRunnable(invalidate);
+                }
+                synchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCommit() {
+                            return Mono.fromRunnable(invalidate);
+                        }
+                    }
+                );
+                return Mono.<Void>empty();
+            })
+            .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(invalidate));
+    }
+
     @Transactional(readOnly = true)
     public Mono<User> getUserWithAuthoritiesByLogin(String login) {
         return userRepository.findOneWithAuthoritiesByLogin(login);
@@ -148,7 +279,7 @@ public class UserService {
             .doOnNext(authority -> LOG.debug("Saving authority '{}' in local database", authority))
             .flatMap(authorityRepository::save)
             .then(userRepository.findOneByLogin(user.getLogin()))
-            .switchIfEmpty(saveUser(user, true))
+            .switchIfEmpty(saveUser(user, true).doOnNext(createdUser -> syncWrites.increment()))
             .flatMap(existingUser -> {
                 // if IdP sends last updated information, use it to determine if an update should happen
                 if (details.get("updated_at") != null) {
@@ -160,26 +291,29 @@ public class UserService {
                         idpModifiedDate = Instant.ofEpochSecond((Integer) details.get("updated_at"));
                     }
                     if (idpModifiedDate.isAfter(dbModifiedDate)) {
-                        LOG.debug("Updating user '{}' in local database", user.getLogin());
-                        return updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+                        return updateUserFromIdP(user);
                     }
                 } else {
-                    LOG.debug("Updating user '{}' in local database", user.getLogin());
-                    return updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+                    return updateUserFromIdP(user);
                 }
                 return Mono.empty();
             })
             .thenReturn(user);
     }
 
+    private Mono<Void> updateUserFromIdP(User user) {
+        LOG.debug("Updating user '{}' in local database", user.getLogin());
+        syncWrites.increment();
+        return updateUser(user.getFirstName(), user.getLastName(), user.getEmail(), user.getLangKey(), user.getImageUrl());
+    }
+
     /**
      * Returns the user from an OAuth 2.0 login or resource server with JWT.
-     * Synchronizes the user in the local repository.
+     * Synchronizes the user in the local repository, unless the same claims were already synchronized.
      *
      * @param authToken the authentication token.
      * @return the user from the authentication.
      */
-    @Transactional
     public Mono<AdminUserDTO> getUserFromAuthentication(AbstractAuthenticationToken authToken) {
         Map<String, Object> attributes;
         if (authToken instanceof OAuth2AuthenticationToken) {
@@ -203,7 +337,35 @@ public class UserService {
                 .collect(Collectors.toSet())
         );
 
-        return syncUserWithIdP(attributes, user).flatMap(u -> Mono.just(new AdminUserDTO(u)));
+        String subject = String.valueOf(attributes.get("sub"));
+        String fingerprint = syncFingerprint(attributes, user);
+        if (fingerprint.equals(syncFingerprints.getIfPresent(subject))) {
+            return Mono.just(new AdminUserDTO(user));
+        }
+        return syncUserWithIdP(attributes, user)
+            .as(transactionalOperator::transactional)
+            .doOnNext(u -> syncFingerprints.put(subject, fingerprint))
+            .flatMap(u -> Mono.just(new AdminUserDTO(u)));
+    }
+
+    /**
+     * Hashes the claims that {@link #syncUserWithIdP(Map, User)} copies into the local database.
+     */
+    private static String syncFingerprint(Map<String, Object> details, User user) {
+        String claims = String.join(
+            "|",
+            user.getId(),
+            user.getLogin(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getLangKey(),
+            user.getImageUrl(),
+            String.valueOf(user.isActivated()),
+            String.valueOf(details.get("updated_at")),
+            user.getAuthorities().stream().map(Authority::getName).sorted().collect(Collectors.joining(","))
+        );
+        return DigestUtils.md5DigestAsHex(claims.getBytes(StandardCharsets.UTF_8));
     }
 
     private static User getUser(Map<String, Object> details) {
@@ -1,5 +1,6 @@
 package org.jhipster.gateway.web.filter;
 
+import java.util.Collection;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -7,22 +8,22 @@ import reactor.core.publisher.Mono;
 
 public class SpaWebFilter implements WebFilter {
 
+    private final SpaPathClassifier spaPathClassifier;
+
+    /**
+     * @param excludedPrefixes the path prefixes which are never forwarded, like {@code /api}.
+     */
+    public SpaWebFilter(Collection<String> excludedPrefixes) {
+        this.spaPathClassifier = new SpaPathClassifier(excludedPrefixes);
+    }
+
     /**
      * Forwards any unmapped paths (except those containing a period) to the client {@code index.html}.
      */
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
         String path = exchange.getRequest().getURI().getPath();
-        if (
-            !path.startsWith("/api") &&
-            !path.startsWith("/management") &&
-            !path.startsWith("/v3/api-docs") &&
-            !path.startsWith("/login") &&
-            !path.startsWith("/oauth2") &&
-            !path.startsWith("/services") &&
-            !path.contains(".") &&
-            path.matches("/(.*)")
-        ) {
+        if (spaPathClassifier.isClientRoute(path)) {
             return chain.filter(exchange.mutate().request(exchange.getRequest().mutate().path("/index.html").build()).build());
         }
         return chain.filter(exchange);
@@ -1,17 +1,20 @@
 package org.jhipster.gateway.web.rest;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import org.jhipster.gateway.security.AuthoritiesConstants;
 import org.jhipster.gateway.web.rest.vm.RouteVM;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
 import org.springframework.cloud.gateway.route.Route;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.*;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * REST controller for managing Gateway configuration.
@@ -22,14 +25,29 @@ public class GatewayResource {
 
     private final RouteLocator routeLocator;
 
-    private final DiscoveryClient discoveryClient;
+    private final ReactiveDiscoveryClient discoveryClient;
 
     @Value("${spring.application.name}")
     private String appName;
 
-    public GatewayResource(RouteLocator routeLocator, DiscoveryClient discoveryClient) {
+    // Routes parsed from the route predicates, without their service instances, rebuilt on each route refresh
+    private final AtomicReference<Mono<List<RouteVM>>> routes = new AtomicReference<>();
+
+    public GatewayResource(RouteLocator routeLocator, ReactiveDiscoveryClient discoveryClient) {
         this.routeLocator = routeLocator;
         this.discoveryClient = discoveryClient;
+        this.routes.set(loadRoutes());
+    }
+
+    /**
+     * Invalidates the cached routes once the {@link RouteLocator} has refreshed them.
+     * {@code RefreshRoutesResultEvent} is used rather than {@code RefreshRoutesEvent}, as the latter is published before the new routes are available.
+     *
+     * @param event the route refresh result.
+     */
+    @EventListener
+    public void onRefreshRoutesResult(RefreshRoutesResultEvent event) {
+        routes.set(loadRoutes());
     }
 
     /**
@@ -39,23 +57,46 @@ public class GatewayResource {
      */
     @GetMapping("/routes")
     @Secured(AuthoritiesConstants.ADMIN)
-    public ResponseEntity<List<RouteVM>> activeRoutes() {
-        Flux<Route> routes = routeLocator.getRoutes();
-        List<RouteVM> routeVMs = new ArrayList<>();
-        routes.subscribe(route -> {
-            RouteVM routeVM = new RouteVM();
-            // Manipulate strings to make Gateway routes look like Zuul's
-            String predicate = route.getPredicate().toString();
-            String path = predicate.substring(predicate.indexOf("[") + 1, predicate.indexOf("]"));
-            routeVM.setPath(path);
-            String serviceId = route.getId().substring(route.getId().indexOf("_") + 1).toLowerCase();
-            routeVM.setServiceId(serviceId);
+    public Mono<ResponseEntity<List<RouteVM>>> activeRoutes() {
+        return routes
+            .get()
+            .flatMapIterable(routeVMs -> routeVMs)
+            // Service instances change independently of the routes, so they are looked up on each request, concurrently
+            .flatMapSequential(route ->
+                discoveryClient
+                    .getInstances(route.getServiceId())
+                    .collectList()
+                    .map(serviceInstances -> {
+                        RouteVM routeVM = new RouteVM();
+                        routeVM.setPath(route.getPath());
+                        routeVM.setServiceId(route.getServiceId());
+                        routeVM.setServiceInstances(serviceInstances);
+                        return routeVM;
+                    })
+            )
+            .collectList()
+            .map(ResponseEntity::ok);
+    }
+
+    private Mono<List<RouteVM>> loadRoutes() {
+        return routeLocator
+            .getRoutes()
+            .map(this::toRouteVM)
             // Exclude gateway app from routes
-            if (!serviceId.equalsIgnoreCase(appName)) {
-                routeVM.setServiceInstances(discoveryClient.getInstances(serviceId));
-                routeVMs.add(routeVM);
-            }
-        });
-        return ResponseEntity.ok(routeVMs);
+            .filter(routeVM -> !routeVM.getServiceId().equalsIgnoreCase(appName))
+            .collectList()
+            // Don't keep failures, so that the next request retries
+            .cache(routeVMs -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+    }
+
+    private RouteVM toRouteVM(Route route) {
+        RouteVM routeVM = new RouteVM();
+        // Manipulate strings to make Gateway routes look like Zuul's
+        String predicate = route.getPredicate().toString();
+        String path = predicate.substring(predicate.indexOf("[") + 1, predicate.indexOf("]"));
+        routeVM.setPath(path);
+        String serviceId = route.getId().substring(route.getId().indexOf("_") + 1).toLowerCase();
+        routeVM.setServiceId(serviceId);
+        return routeVM;
     }
 }
@@ -42,7 +42,7 @@ public class PublicUserResource {
         LOG.debug("REST request to get all public User names");
 
         return userService
-            .countManagedUsers()
+            .countPublicUsers()
             .map(total -> new PageImpl<>(new ArrayList<>(), pageable, total))
             .map(page ->
                 PaginationUtil.generatePaginationHttpHeaders(
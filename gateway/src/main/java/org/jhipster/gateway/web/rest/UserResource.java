@@ -0,0 +1,40 @@
+package org.jhipster.gateway.web.rest;
+
+import org.jhipster.gateway.service.UserService;
+import org.jhipster.gateway.service.dto.AdminUserDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * REST controller for managing users.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class UserResource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserResource.class);
+
+    private final UserService userService;
+
+    public UserResource(UserService userService) {
+        this.userService = userService;
+    }
+
+    /**
+     * {@code GET  /admin/users} : get all the users with all their details as a stream, for exports.
+     * <p>
+     * Users are read from the database as the client consumes the stream, so that the whole table is never held in memory.
+     *
+     * @return the {@link Flux} of users.
+     */
+    @GetMapping(value = "/users", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyAuthority('ROLE_ADMIN')")
+    public Flux<AdminUserDTO> getAllUsersAsStream() {
+        LOG.debug("REST request to get all Users as a stream");
+        return userService.streamAllManagedUsers();
+    }
+}
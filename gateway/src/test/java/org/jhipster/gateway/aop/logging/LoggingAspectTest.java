@@ -0,0 +1,125 @@
+package org.jhipster.gateway.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Test class for the {@link LoggingAspect} class.
+ */
+class LoggingAspectTest {
+
+    private static final String TYPE_NAME = "org.jhipster.gateway.service.SampleService";
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(TYPE_NAME);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        logger.setLevel(Level.DEBUG);
+        logger.addAppender(appender);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        logger.setLevel(null);
+    }
+
+    @Test
+    void testLogsMonoSuccess() throws Throwable {
+        Object result = aspect(1.0, 1.0).logAround(joinPoint("find", Mono.just("value")));
+
+        assertThat(appender.list).map(ILoggingEvent::getFormattedMessage).singleElement().asString().startsWith("Enter: find()");
+        StepVerifier.create((Mono<?>) result).expectNext("value").verifyComplete();
+        assertThat(appender.list).map(ILoggingEvent::getFormattedMessage).last().isEqualTo("Exit: find() with result = value");
+    }
+
+    @Test
+    void testLogsMonoError() throws Throwable {
+        Object result = aspect(1.0, 1.0).logAround(joinPoint("find", Mono.error(new IllegalStateException("boom"))));
+
+        StepVerifier.create((Mono<?>) result).verifyError(IllegalStateException.class);
+        assertThat(errors()).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString().startsWith("Exception in find()");
+    }
+
+    @Test
+    void testLogsFluxSuccess() throws Throwable {
+        Object result = aspect(1.0, 1.0).logAround(joinPoint("findAll", Flux.just(1, 2)));
+
+        StepVerifier.create((Flux<?>) result).expectNext(1, 2).verifyComplete();
+        assertThat(appender.list)
+            .map(ILoggingEvent::getFormattedMessage)
+            .contains("Next: findAll() with result = 1", "Next: findAll() with result = 2");
+    }
+
+    @Test
+    void testLogsFluxError() throws Throwable {
+        Object result = aspect(1.0, 1.0).logAround(joinPoint("findAll", Flux.error(new IllegalStateException("boom"))));
+
+        StepVerifier.create((Flux<?>) result).verifyError(IllegalStateException.class);
+        assertThat(errors()).singleElement().extracting(ILoggingEvent::getFormattedMessage).asString().startsWith("Exception in findAll()");
+    }
+
+    @Test
+    void testLogsNothingWithRateZero() throws Throwable {
+        LoggingAspect aspect = aspect(0.0, 0.0);
+
+        StepVerifier.create((Mono<?>) aspect.logAround(joinPoint("find", Mono.just("value")))).expectNext("value").verifyComplete();
+        StepVerifier.create((Flux<?>) aspect.logAround(joinPoint("findAll", Flux.error(new IllegalStateException("boom")))))
+            .verifyError(IllegalStateException.class);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void testSamplesErrorOnceForAllLayers() throws Throwable {
+        LoggingAspect aspect = aspect(0.0, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            appender.list.clear();
+            // The same error goes through a repository call wrapped by a service call
+            Object repositoryResult = aspect.logAround(joinPoint("findOne", Mono.error(new IllegalStateException("boom"))));
+            Object serviceResult = aspect.logAround(joinPoint("find", repositoryResult));
+
+            StepVerifier.create((Mono<?>) serviceResult).verifyError(IllegalStateException.class);
+            assertThat(errors().size()).isIn(0, 2);
+        }
+    }
+
+    private static LoggingAspect aspect(double sampleRate, double errorSampleRate) {
+        return new LoggingAspect(new MockEnvironment(), sampleRate, errorSampleRate);
+    }
+
+    private static ProceedingJoinPoint joinPoint(String methodName, Object result) throws Throwable {
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringTypeName()).thenReturn(TYPE_NAME);
+        when(signature.getName()).thenReturn(methodName);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenReturn(result);
+        return joinPoint;
+    }
+
+    private List<ILoggingEvent> errors() {
+        return appender.list.stream().filter(event -> event.getLevel() == Level.ERROR).toList();
+    }
+}
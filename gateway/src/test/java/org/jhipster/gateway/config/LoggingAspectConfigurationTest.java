@@ -0,0 +1,41 @@
+package org.jhipster.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jhipster.gateway.aop.logging.LoggingAspect;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Test class for the {@link LoggingAspectConfiguration} class.
+ */
+class LoggingAspectConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(PropertiesConfiguration.class, LoggingAspectConfiguration.class);
+
+    @Test
+    void testRegistersAspectWhenEnabled() {
+        contextRunner
+            .withPropertyValues("application.logging-aspect.enabled=true")
+            .run(context -> assertThat(context).hasSingleBean(LoggingAspect.class));
+    }
+
+    @Test
+    void testDoesNotRegisterAspectWhenDisabled() {
+        contextRunner
+            .withPropertyValues("application.logging-aspect.enabled=false")
+            .run(context -> assertThat(context).doesNotHaveBean(LoggingAspect.class));
+    }
+
+    @Test
+    void testDoesNotRegisterAspectByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(LoggingAspect.class));
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(ApplicationProperties.class)
+    static class PropertiesConfiguration {}
+}
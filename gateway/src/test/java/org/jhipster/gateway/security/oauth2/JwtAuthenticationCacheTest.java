@@ -0,0 +1,61 @@
+package org.jhipster.gateway.security.oauth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * Test class for the {@link JwtAuthenticationCache} class.
+ */
+class JwtAuthenticationCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final JwtAuthenticationCache cache = new JwtAuthenticationCache(
+        100,
+        Duration.ofMinutes(15),
+        new SimpleMeterRegistry(),
+        Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @Test
+    void testDecodesHotTokenOnce() {
+        ReactiveJwtDecoder delegate = mock(ReactiveJwtDecoder.class);
+        when(delegate.decode("token")).thenReturn(Mono.just(jwt("token", NOW.plusSeconds(300))));
+        ReactiveJwtDecoder decoder = cache.decoder(delegate);
+
+        Jwt first = decoder.decode("token").block();
+        Jwt second = decoder.decode("token").block();
+
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    void testDoesNotKeepExpiredToken() {
+        ReactiveJwtDecoder delegate = mock(ReactiveJwtDecoder.class);
+        when(delegate.decode("expired")).thenReturn(Mono.just(jwt("expired", NOW.minusSeconds(1))));
+        ReactiveJwtDecoder decoder = cache.decoder(delegate);
+
+        decoder.decode("expired").block();
+        decoder.decode("expired").block();
+
+        verify(delegate, times(2)).decode("expired");
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token).header("alg", "none").subject("user").issuedAt(NOW.minusSeconds(60)).expiresAt(expiresAt).build();
+    }
+}
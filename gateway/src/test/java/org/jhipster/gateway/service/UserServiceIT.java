@@ -5,9 +5,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import org.jhipster.gateway.IntegrationTest;
 import org.jhipster.gateway.config.Constants;
+import org.jhipster.gateway.domain.Authority;
 import org.jhipster.gateway.domain.User;
 import org.jhipster.gateway.repository.UserRepository;
 import org.jhipster.gateway.security.AuthoritiesConstants;
@@ -16,6 +20,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -143,6 +149,76 @@ class UserServiceIT {
         assertThat(userDTO.getLangKey()).isEqualTo("en");
     }
 
+    @Test
+    void testUnchangedClaimsSkipSync() {
+        userDetails.put("sub", "unchanged_claims");
+        OAuth2AuthenticationToken authentication = createMockOAuth2AuthenticationToken(userDetails);
+        userService.getUserFromAuthentication(authentication).block();
+        assertThat(userRepository.findOneByLogin("unchanged_claims").blockOptional()).isPresent();
+
+        userRepository.deleteAllUserAuthorities().block();
+        userRepository.deleteAll().block();
+        AdminUserDTO userDTO = userService.getUserFromAuthentication(authentication).block();
+        assertThat(userDTO.getLogin()).isEqualTo("unchanged_claims");
+        assertThat(userRepository.findOneByLogin("unchanged_claims").blockOptional()).isEmpty();
+
+        userDetails.put("family_name", "changed");
+        userService.getUserFromAuthentication(createMockOAuth2AuthenticationToken(userDetails)).block();
+        assertThat(userRepository.findOneByLogin("unchanged_claims").blockOptional()).isPresent();
+    }
+
+    @Test
+    void testSaveUserOnlyUpdatesChangedAuthorityLinks() {
+        user.setId(UUID.randomUUID().toString());
+        user.setAuthorities(Set.of(authority(AuthoritiesConstants.ADMIN), authority(AuthoritiesConstants.USER)));
+        userService.saveUser(user, true).block();
+
+        user.setIsPersisted();
+        user.setAuthorities(Set.of(authority(AuthoritiesConstants.USER)));
+        userService.saveUser(user).block();
+
+        User savedUser = userService.getUserWithAuthoritiesByLogin(DEFAULT_LOGIN).block();
+        assertThat(savedUser.getAuthorities()).extracting(Authority::getName).containsExactly(AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void testGetAllManagedUsersIsSortedAndPaged() {
+        for (String suffix : List.of("c", "a", "b")) {
+            User pagedUser = new User();
+            pagedUser.setId(UUID.randomUUID().toString());
+            pagedUser.setLogin(DEFAULT_LOGIN + "_" + suffix);
+            pagedUser.setEmail(suffix + DEFAULT_EMAIL);
+            pagedUser.setCreatedBy(Constants.SYSTEM);
+            userRepository.create(pagedUser).block();
+            userRepository.saveUserAuthority(pagedUser.getId(), AuthoritiesConstants.USER).block();
+        }
+
+        List<AdminUserDTO> page = userService
+            .getAllManagedUsers(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "login")))
+            .collectList()
+            .block();
+
+        assertThat(page).hasSize(1);
+        assertThat(page.get(0).getLogin()).isEqualTo(DEFAULT_LOGIN + "_a");
+        assertThat(page.get(0).getAuthorities()).containsExactly(AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void testCreatedUsersAreAddedToPublicUsersCount() {
+        long before = userService.countPublicUsers().block();
+
+        user.setId(UUID.randomUUID().toString());
+        userService.saveUser(user, true).block();
+
+        assertThat(userService.countPublicUsers().block()).isEqualTo(before + 1);
+    }
+
+    private static Authority authority(String name) {
+        Authority authority = new Authority();
+        authority.setName(name);
+        return authority;
+    }
+
     private OAuth2AuthenticationToken createMockOAuth2AuthenticationToken(Map<String, Object> userDetails) {
         Collection<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS));
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
@@ -1,17 +1,22 @@
 package org.jhipster.gateway.web.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
 
+import java.time.Duration;
 import java.util.Set;
 import org.jhipster.gateway.IntegrationTest;
+import org.jhipster.gateway.config.ApplicationProperties;
 import org.jhipster.gateway.domain.User;
 import org.jhipster.gateway.repository.UserRepository;
 import org.jhipster.gateway.security.AuthoritiesConstants;
+import org.jhipster.gateway.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -27,6 +32,12 @@ class PublicUserResourceIT {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     @Autowired
     private WebTestClient webTestClient;
 
@@ -75,4 +86,79 @@ class PublicUserResourceIT {
             .jsonPath("$.[*].langKey")
             .doesNotHaveJsonPath();
     }
+
+    @Test
+    void countPublicUsersAfterCreate() {
+        // Create a user through the service, which reloads the cached count once committed
+        userService.saveUser(user, true).block();
+
+        assertTotalCount(getActivatedUsersCount());
+    }
+
+    @Test
+    void countPublicUsersAfterSave() {
+        // Initialize the database and the cached count
+        userService.saveUser(user, true).block();
+        long activatedUsersCount = getActivatedUsersCount();
+        assertTotalCount(activatedUsersCount);
+
+        // Deactivate the user through the service, which reloads the cached count once committed
+        User savedUser = userRepository.findById(user.getId()).block();
+        savedUser.setActivated(false);
+        userService.saveUser(savedUser).block();
+
+        assertTotalCount(activatedUsersCount - 1);
+    }
+
+    @Test
+    void countPublicUsersAfterTimeToLive() throws InterruptedException {
+        // Initialize the database and the cached count
+        userService.saveUser(user, true).block();
+        long activatedUsersCount = getActivatedUsersCount();
+        assertTotalCount(activatedUsersCount);
+
+        // A user created without the service is only counted once the cached count has expired
+        userRepository.create(UserResourceIT.createEntity()).block();
+        assertTotalCount(activatedUsersCount);
+
+        Thread.sleep(applicationProperties.getUserSync().getCountTimeToLive().plus(Duration.ofMillis(100)).toMillis());
+        assertTotalCount(activatedUsersCount + 1);
+    }
+
+    @Test
+    void getPublicUsersPaginationHeaders() {
+        // Initialize the database
+        userService.saveUser(user, true).block();
+        userService.saveUser(UserResourceIT.createEntity(), true).block();
+        long activatedUsersCount = getActivatedUsersCount();
+
+        // Get the first page, whose headers come from the cached count
+        webTestClient
+            .get()
+            .uri("/api/users?page=0&size=1")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals("X-Total-Count", String.valueOf(activatedUsersCount))
+            .expectHeader()
+            .value(HttpHeaders.LINK, link -> assertThat(link).contains("rel=\"next\"").contains("rel=\"last\""));
+    }
+
+    private long getActivatedUsersCount() {
+        return userRepository.countAllByIdNotNullAndActivatedIsTrue().block();
+    }
+
+    private void assertTotalCount(long expectedCount) {
+        webTestClient
+            .get()
+            .uri("/api/users")
+            .accept(MediaType.APPLICATION_JSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .valueEquals("X-Total-Count", String.valueOf(expectedCount));
+    }
 }
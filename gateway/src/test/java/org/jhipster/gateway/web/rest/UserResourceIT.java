@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.security.test.web.reactive.server.SecurityMockServerConfigurers.csrf;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -14,12 +15,14 @@ import org.jhipster.gateway.repository.AuthorityRepository;
 import org.jhipster.gateway.repository.EntityManager;
 import org.jhipster.gateway.repository.UserRepository;
 import org.jhipster.gateway.security.AuthoritiesConstants;
+import org.jhipster.gateway.service.dto.AdminUserDTO;
 import org.jhipster.gateway.service.mapper.UserMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
@@ -116,6 +119,32 @@ class UserResourceIT {
         userRepository.deleteAll().block();
     }
 
+    @Test
+    void getAllUsersAsStream() {
+        // Initialize the database
+        userRepository.create(user).block();
+        userRepository.saveUserAuthority(user.getId(), AuthoritiesConstants.USER).block();
+
+        List<AdminUserDTO> userList = webTestClient
+            .get()
+            .uri("/api/admin/users")
+            .accept(MediaType.APPLICATION_NDJSON)
+            .exchange()
+            .expectStatus()
+            .isOk()
+            .expectHeader()
+            .contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+            .returnResult(AdminUserDTO.class)
+            .getResponseBody()
+            .filter(userDTO -> user.getId().equals(userDTO.getId()))
+            .collectList()
+            .block(Duration.ofSeconds(5));
+
+        assertThat(userList).hasSize(1);
+        assertThat(userList.get(0).getLogin()).isEqualTo(DEFAULT_LOGIN);
+        assertThat(userList.get(0).getAuthorities()).containsExactly(AuthoritiesConstants.USER);
+    }
+
     @Test
     void testUserEquals() throws Exception {
         TestUtil.equalsVerifier(User.class);
@@ -64,7 +64,7 @@ public class CacheConfiguration {
     }
 
     @Bean
-    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties) {
+    public HazelcastInstance hazelcastInstance(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
         LOG.debug("Configuring Hazelcast");
         HazelcastInstance hazelCastInstance = Hazelcast.getHazelcastInstanceByName("store");
         if (hazelCastInstance != null) {
@@ -106,6 +106,12 @@ public class CacheConfiguration {
         }
         config.setManagementCenterConfig(new ManagementCenterConfig());
         config.addMapConfig(initializeDefaultMapConfig(jHipsterProperties));
+        MapConfig domainMapConfig = initializeDomainMapConfig(jHipsterProperties, applicationProperties.getCache());
+        config.addMapConfig(domainMapConfig);
+        applicationProperties
+            .getCache()
+            .getMaps()
+            .forEach((name, domainMap) -> config.addMapConfig(initializeDomainMapConfig(domainMapConfig, name, domainMap)));
         return Hazelcast.newHazelcastInstance(config);
     }
 
@@ -139,9 +145,32 @@ public class CacheConfiguration {
         return mapConfig;
     }
 
-    private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties) {
+    private MapConfig initializeDomainMapConfig(JHipsterProperties jHipsterProperties, ApplicationProperties.Cache cache) {
         MapConfig mapConfig = new MapConfig("org.jhipster.store.domain.*");
+        mapConfig.setBackupCount(jHipsterProperties.getCache().getHazelcast().getBackupCount());
         mapConfig.setTimeToLiveSeconds(jHipsterProperties.getCache().getHazelcast().getTimeToLiveSeconds());
+        if (cache.isNearCache()) {
+            /*
+            Entries read by an instance are kept in its own memory, in serialized form,
+            and invalidated when they are changed or evicted in the cluster.
+            */
+            mapConfig.setNearCacheConfig(new NearCacheConfig().setInvalidateOnChange(true));
+        }
+        return mapConfig;
+    }
+
+    private MapConfig initializeDomainMapConfig(MapConfig domainMapConfig, String name, ApplicationProperties.Cache.DomainMap domainMap) {
+        MapConfig mapConfig = new MapConfig(domainMapConfig).setName(name);
+        if (domainMap.getTimeToLiveSeconds() != null) {
+            mapConfig.setTimeToLiveSeconds(domainMap.getTimeToLiveSeconds());
+        }
+        if (domainMap.getMaxSize() != null) {
+            mapConfig
+                .getEvictionConfig()
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setMaxSizePolicy(MaxSizePolicy.PER_NODE)
+                .setSize(domainMap.getMaxSize());
+        }
         return mapConfig;
     }
 
@@ -0,0 +1,43 @@
+package org.jhipster.store.config.dbmigrations;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.util.List;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Converts the prices of the products from strings to decimals, so that they are sorted and indexed by their value.
+ */
+@ChangeUnit(id = "convert-product-prices-to-decimal", order = "002", author = "store", transactional = false)
+public class ConvertProductPricesToDecimal {
+
+    private static final String COLLECTION = "product";
+
+    private final MongoTemplate template;
+
+    public ConvertProductPricesToDecimal(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void convertPrices() {
+        template
+            .getCollection(COLLECTION)
+            .updateMany(
+                new Document("price", new Document("$type", "string")),
+                List.of(new Document("$set", new Document("price", new Document("$toDecimal", "$price"))))
+            );
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template
+            .getCollection(COLLECTION)
+            .updateMany(
+                new Document("price", new Document("$type", "decimal")),
+                List.of(new Document("$set", new Document("price", new Document("$toString", "$price"))))
+            );
+    }
+}
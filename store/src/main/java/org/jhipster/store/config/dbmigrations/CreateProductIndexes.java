@@ -0,0 +1,43 @@
+package org.jhipster.store.config.dbmigrations;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+/**
+ * Creates the indexes used to sort the products by title or price.
+ * The id is part of the indexes as it breaks the ties, so that pages can also be read after a given product.
+ */
+@ChangeUnit(id = "create-product-indexes", order = "003", author = "store", transactional = false)
+public class CreateProductIndexes {
+
+    private static final String COLLECTION = "product";
+
+    private static final String TITLE_INDEX = "product_title_id";
+
+    private static final String PRICE_INDEX = "product_price_id";
+
+    private final MongoTemplate template;
+
+    public CreateProductIndexes(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void createIndexes() {
+        IndexOperations indexOperations = template.indexOps(COLLECTION);
+        indexOperations.ensureIndex(new Index().named(TITLE_INDEX).on("title", Sort.Direction.ASC).on("_id", Sort.Direction.ASC));
+        indexOperations.ensureIndex(new Index().named(PRICE_INDEX).on("price", Sort.Direction.ASC).on("_id", Sort.Direction.ASC));
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        IndexOperations indexOperations = template.indexOps(COLLECTION);
+        indexOperations.dropIndex(TITLE_INDEX);
+        indexOperations.dropIndex(PRICE_INDEX);
+    }
+}
@@ -0,0 +1,61 @@
+package org.jhipster.store.config.dbmigrations;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.io.ByteArrayInputStream;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Moves the images stored inline in the product documents to GridFS, keeping only their id in the documents.
+ */
+@ChangeUnit(id = "move-product-images-to-gridfs", order = "001", author = "store", transactional = false)
+public class MoveProductImagesToGridFs {
+
+    private static final String COLLECTION = "product";
+
+    private final MongoTemplate template;
+
+    public MoveProductImagesToGridFs(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void moveImages() {
+        // Same bucket and metadata as the GridFsTemplate used by the application
+        GridFSBucket bucket = GridFSBuckets.create(template.getDb());
+        Query withInlineImage = query(where("image").exists(true));
+        try (var products = template.stream(withInlineImage, Document.class, COLLECTION)) {
+            products.forEach(product -> {
+                Update update = new Update().unset("image");
+                Binary image = product.get("image", Binary.class);
+                if (image != null) {
+                    GridFSUploadOptions options = new GridFSUploadOptions();
+                    String contentType = product.getString("image_content_type");
+                    if (contentType != null) {
+                        options.metadata(new Document("_contentType", contentType));
+                    }
+                    ObjectId imageId = bucket.uploadFromStream("product-image", new ByteArrayInputStream(image.getData()), options);
+                    update.set("image_id", imageId.toHexString());
+                }
+                template.updateFirst(query(where("_id").is(product.get("_id"))), update, COLLECTION);
+            });
+        }
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        // The moved images are kept in GridFS, the application no longer reads inline images
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * MongoDB database migrations using Mongock.
+ */
+package org.jhipster.store.config.dbmigrations;
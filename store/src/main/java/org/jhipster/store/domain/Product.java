@@ -1,11 +1,14 @@
 package org.jhipster.store.domain;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
 
 /**
  * A Product.
@@ -25,15 +28,20 @@ public class Product implements Serializable {
 
     @NotNull
     @DecimalMin(value = "0")
-    @Field("price")
+    @Field(name = "price", targetType = FieldType.DECIMAL128)
     private BigDecimal price;
 
-    @Field("image")
+    // Images are stored in GridFS, the bytes are only carried to write them or to return a single product
+    @Transient
     private byte[] image;
 
     @Field("image_content_type")
     private String imageContentType;
 
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Field("image_id")
+    private String imageId;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public String getId() {
@@ -101,6 +109,19 @@ public class Product implements Serializable {
         this.imageContentType = imageContentType;
     }
 
+    public String getImageId() {
+        return this.imageId;
+    }
+
+    public Product imageId(String imageId) {
+        this.setImageId(imageId);
+        return this;
+    }
+
+    public void setImageId(String imageId) {
+        this.imageId = imageId;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -129,6 +150,7 @@ public class Product implements Serializable {
             ", price=" + getPrice() +
             ", image='" + getImage() + "'" +
             ", imageContentType='" + getImageContentType() + "'" +
+            ", imageId='" + getImageId() + "'" +
             "}";
     }
 }
@@ -0,0 +1,78 @@
+package org.jhipster.store.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+import java.io.ByteArrayInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.core.io.Resource;
+import org.springframework.data.mongodb.gridfs.GridFsResource;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ProductImageStore} keeping the images in the GridFS bucket of the store database.
+ */
+@Component
+class GridFsProductImageStore implements ProductImageStore {
+
+    private static final String FILENAME = "product-image";
+
+    private static final String SHA256_FIELD = "sha256";
+
+    private final GridFsTemplate gridFsTemplate;
+
+    GridFsProductImageStore(GridFsTemplate gridFsTemplate) {
+        this.gridFsTemplate = gridFsTemplate;
+    }
+
+    @Override
+    public String store(byte[] content, @Nullable String contentType, @Nullable String currentImageId) {
+        String sha256 = sha256(content);
+        if (currentImageId != null && ObjectId.isValid(currentImageId)) {
+            // Images stored before their hash was recorded never match, and are replaced once
+            GridFSFile currentFile = gridFsTemplate.findOne(
+                query(where("_id").is(new ObjectId(currentImageId)))
+                    .addCriteria(where("metadata." + SHA256_FIELD).is(sha256))
+                    .addCriteria(where("metadata." + GridFsResource.CONTENT_TYPE_FIELD).is(contentType))
+            );
+            if (currentFile != null) {
+                return currentImageId;
+            }
+        }
+        return gridFsTemplate
+            .store(new ByteArrayInputStream(content), FILENAME, contentType, new Document(SHA256_FIELD, sha256))
+            .toHexString();
+    }
+
+    @Override
+    public Optional<Resource> find(String imageId) {
+        if (!ObjectId.isValid(imageId)) {
+            return Optional.empty();
+        }
+        GridFSFile file = gridFsTemplate.findOne(query(where("_id").is(new ObjectId(imageId))));
+        return Optional.ofNullable(file).map(gridFsTemplate::getResource);
+    }
+
+    @Override
+    public void delete(String imageId) {
+        if (ObjectId.isValid(imageId)) {
+            gridFsTemplate.delete(query(where("_id").is(new ObjectId(imageId))));
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.jhipster.store.repository;
+
+import java.util.Map;
+
+/**
+ * Outcome of a bulk write of products.
+ *
+ * @param created the number of inserted products.
+ * @param updated the number of replaced products.
+ * @param errors the reason why a product wasn't written, by index of the product in the written list.
+ */
+public record ProductBulkWriteResult(int created, int updated, Map<Integer, String> errors) {}
@@ -0,0 +1,39 @@
+package org.jhipster.store.repository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.util.Set;
+import org.jhipster.store.domain.Product;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the image bytes carried by a {@link Product} to the {@link ProductImageStore} before the product is written,
+ * so that the document only keeps the id of its image. The image the product already references is kept if it didn't change.
+ */
+@Component
+class ProductImageCallback implements BeforeConvertCallback<Product> {
+
+    private final ProductImageStore productImageStore;
+
+    private final Validator validator;
+
+    ProductImageCallback(ProductImageStore productImageStore, Validator validator) {
+        this.productImageStore = productImageStore;
+        this.validator = validator;
+    }
+
+    @Override
+    public Product onBeforeConvert(Product product, String collection) {
+        if (product.getImage() != null) {
+            // ValidatingMongoEventListener only validates the converted product, so an invalid one is rejected before its image is stored
+            Set<ConstraintViolation<Product>> violations = validator.validate(product);
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+            product.setImageId(productImageStore.store(product.getImage(), product.getImageContentType(), product.getImageId()));
+        }
+        return product;
+    }
+}
@@ -0,0 +1,35 @@
+package org.jhipster.store.repository;
+
+import java.util.Optional;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Blob store for the images of the Product entity, which only keeps the id of its image.
+ */
+public interface ProductImageStore {
+    /**
+     * Stores an image, unless it has the same bytes and content type as the image it replaces, which is then kept.
+     *
+     * @param content the bytes of the image.
+     * @param contentType the content type of the image, if known.
+     * @param currentImageId the id of the image it replaces, if any.
+     * @return the id of the stored image, which is {@code currentImageId} if the image didn't change.
+     */
+    String store(byte[] content, @Nullable String contentType, @Nullable String currentImageId);
+
+    /**
+     * Finds a stored image, which can be streamed without loading it in memory.
+     *
+     * @param imageId the id of the image.
+     * @return the image, or empty if there is no image with this id.
+     */
+    Optional<Resource> find(String imageId);
+
+    /**
+     * Deletes a stored image, if it exists.
+     *
+     * @param imageId the id of the image.
+     */
+    void delete(String imageId);
+}
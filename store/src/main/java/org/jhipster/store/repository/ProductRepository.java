@@ -1,11 +1,473 @@
 package org.jhipster.store.repository;
 
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import com.mongodb.bulk.BulkWriteResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import org.bson.types.Decimal128;
 import org.jhipster.store.domain.Product;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
 /**
  * Spring Data MongoDB repository for the Product entity.
  */
 @Repository
-public interface ProductRepository extends MongoRepository<Product, String> {}
+public interface ProductRepository extends MongoRepository<Product, String>, ProductRepositoryInternal {
+    String PRODUCTS_CACHE = "org.jhipster.store.domain.Product";
+
+    String PRODUCT_PAGES_CACHE = "org.jhipster.store.domain.Product.pages";
+
+    @Override
+    @Cacheable(cacheNames = PRODUCTS_CACHE)
+    Optional<Product> findById(String id);
+
+    @Override
+    @Cacheable(cacheNames = PRODUCT_PAGES_CACHE, key = "{'products', #pageable}")
+    Page<Product> findAll(Pageable pageable);
+
+    @Override
+    @Cacheable(cacheNames = PRODUCT_PAGES_CACHE, key = "{'summaries', #pageable}")
+    Page<Product> findAllSummaries(Pageable pageable);
+
+    @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#result.id"),
+            @CacheEvict(cacheNames = PRODUCT_PAGES_CACHE, allEntries = true),
+        }
+    )
+    <S extends Product> S save(S entity);
+
+    @Override
+    @CacheEvict(cacheNames = { PRODUCTS_CACHE, PRODUCT_PAGES_CACHE }, allEntries = true)
+    <S extends Product> List<S> saveAll(Iterable<S> entities);
+
+    @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#product.id"),
+            @CacheEvict(cacheNames = PRODUCT_PAGES_CACHE, allEntries = true),
+        }
+    )
+    Optional<Product> update(Product product);
+
+    @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#product.id"),
+            @CacheEvict(cacheNames = PRODUCT_PAGES_CACHE, allEntries = true),
+        }
+    )
+    Optional<Product> partialUpdate(Product product);
+
+    @Override
+    @CacheEvict(cacheNames = { PRODUCTS_CACHE, PRODUCT_PAGES_CACHE }, allEntries = true)
+    ProductBulkWriteResult bulkWrite(List<Product> products);
+
+    @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = PRODUCT_PAGES_CACHE, allEntries = true),
+        }
+    )
+    void deleteById(String id);
+
+    @Override
+    @Caching(
+        evict = {
+            @CacheEvict(cacheNames = PRODUCTS_CACHE, key = "#entity.id"),
+            @CacheEvict(cacheNames = PRODUCT_PAGES_CACHE, allEntries = true),
+        }
+    )
+    void delete(Product entity);
+
+    @Override
+    @CacheEvict(cacheNames = { PRODUCTS_CACHE, PRODUCT_PAGES_CACHE }, allEntries = true)
+    void deleteAll(Iterable<? extends Product> entities);
+
+    @Override
+    @CacheEvict(cacheNames = { PRODUCTS_CACHE, PRODUCT_PAGES_CACHE }, allEntries = true)
+    void deleteAll();
+}
+
+interface ProductRepositoryInternal {
+    /**
+     * Gets a product together with the bytes of its image.
+     *
+     * @param id the id of the product.
+     * @return the product, or empty if there is no product with this id.
+     */
+    Optional<Product> findOneWithImage(String id);
+
+    /**
+     * Gets a page of products which only carry the fields needed to list them: their title, price and image reference.
+     *
+     * @param pageable the pagination information.
+     * @return the page of products.
+     */
+    Page<Product> findAllSummaries(Pageable pageable);
+
+    /**
+     * Gets the products following a given product in the order of a property, reading the index of the property from this product
+     * instead of skipping all the previous products. Products with the same value are ordered by id.
+     *
+     * @param order the order of the products, on {@code id}, {@code title} or {@code price}.
+     * @param afterKey the value of the property for the last product of the previous batch, or {@code null} for the first batch.
+     * @param afterId the id of the last product of the previous batch, or {@code null} for the first batch.
+     * @param limit the maximum number of products.
+     * @return the products.
+     * @throws IllegalArgumentException if the products can't be sorted by the property, if the key isn't one of its values,
+     * or if only one of the key and the id is given for a property other than the id.
+     */
+    List<Product> findAllAfter(Sort.Order order, @Nullable String afterKey, @Nullable String afterId, int limit);
+
+    /**
+     * Saves a product, keeping its stored image if it didn't change and deleting its previous image if it was replaced or removed.
+     * An image stored for the product is deleted if the product can't be written.
+     *
+     * @param product the product to save.
+     * @param <S> the type of the product.
+     * @return the saved product.
+     */
+    <S extends Product> S save(S product);
+
+    /**
+     * Replaces an existing product in a single round trip, deleting its previous image if it was replaced or removed.
+     *
+     * @param product the product to update.
+     * @return the updated product, or empty if there is no product with this id.
+     */
+    Optional<Product> update(Product product);
+
+    /**
+     * Sets the non-null fields of an existing product in a single round trip, leaving the other fields unchanged.
+     * <p>
+     * The stored image is not read: the returned product only carries an image if it was part of the update.
+     *
+     * @param product the product to update.
+     * @return the updated product, or empty if there is no product with this id.
+     */
+    Optional<Product> partialUpdate(Product product);
+
+    /**
+     * Validates and writes products in a single unordered bulk write, without stopping at the first invalid product:
+     * products without id are inserted, the others replace the product with the same id or are inserted with this id.
+     *
+     * @param products the products to write.
+     * @return the numbers of written products and the errors of the products which weren't.
+     */
+    ProductBulkWriteResult bulkWrite(List<Product> products);
+
+    /**
+     * Deletes a product and its image.
+     *
+     * @param id the id of the product.
+     */
+    void deleteById(String id);
+}
+
+class ProductRepositoryInternalImpl implements ProductRepositoryInternal {
+
+    private static final Set<String> KEYSET_SORTABLE_PROPERTIES = Set.of("title", "price");
+
+    private static final String[] SUMMARY_FIELDS = { "title", "price", "imageContentType", "imageId" };
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ProductImageStore productImageStore;
+
+    private final Validator validator;
+
+    ProductRepositoryInternalImpl(MongoTemplate mongoTemplate, ProductImageStore productImageStore, Validator validator) {
+        this.mongoTemplate = mongoTemplate;
+        this.productImageStore = productImageStore;
+        this.validator = validator;
+    }
+
+    @Override
+    public Optional<Product> findOneWithImage(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, Product.class)).map(product -> {
+            if (product.getImageId() != null) {
+                productImageStore.find(product.getImageId()).ifPresent(image -> product.setImage(readImage(image)));
+            }
+            return product;
+        });
+    }
+
+    @Override
+    public Page<Product> findAllSummaries(Pageable pageable) {
+        Query query = new Query().with(pageable);
+        query.fields().include(SUMMARY_FIELDS);
+        List<Product> products = mongoTemplate.find(query, Product.class);
+        return PageableExecutionUtils.getPage(products, pageable, () -> mongoTemplate.count(new Query(), Product.class));
+    }
+
+    @Override
+    public List<Product> findAllAfter(Sort.Order order, @Nullable String afterKey, @Nullable String afterId, int limit) {
+        String property = order.getProperty();
+        boolean ascending = order.isAscending();
+        Query query = new Query().limit(limit);
+        if ("id".equals(property)) {
+            if (afterId != null) {
+                query.addCriteria(after("id", afterId, ascending));
+            }
+            return mongoTemplate.find(query.with(Sort.by(order.getDirection(), "id")), Product.class);
+        }
+        if (!KEYSET_SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Products can't be read after a given " + property);
+        }
+        if ((afterKey == null) != (afterId == null)) {
+            throw new IllegalArgumentException("Products sorted by " + property + " are read after both a key and an id");
+        }
+        if (afterKey != null) {
+            Object key = keyValue(property, afterKey);
+            Criteria sameKeyAfterId = where(property).is(key).andOperator(after("id", afterId, ascending));
+            query.addCriteria(new Criteria().orOperator(after(property, key, ascending), sameKeyAfterId));
+        }
+        return mongoTemplate.find(query.with(Sort.by(order.getDirection(), property, "id")), Product.class);
+    }
+
+    @Override
+    public <S extends Product> S save(S product) {
+        String previousImageId = product.getId() == null ? null : findImageId(product.getId());
+        useCurrentImage(product, previousImageId);
+        S savedProduct;
+        try {
+            savedProduct = mongoTemplate.save(product);
+        } catch (RuntimeException e) {
+            deleteUploadedImage(previousImageId, product);
+            throw e;
+        }
+        deleteReplacedImage(previousImageId, savedProduct);
+        return savedProduct;
+    }
+
+    @Override
+    public Optional<Product> update(Product product) {
+        String currentImageId = product.getImage() == null ? null : findImageId(product.getId());
+        useCurrentImage(product, currentImageId);
+        // The image bytes are moved to the image store by ProductImageCallback, the replaced document gives the previous image
+        Product previousProduct;
+        try {
+            previousProduct = mongoTemplate.findAndReplace(byId(product.getId()), product);
+        } catch (RuntimeException e) {
+            deleteUploadedImage(currentImageId, product);
+            throw e;
+        }
+        if (previousProduct == null) {
+            deleteUploadedImage(currentImageId, product);
+            return Optional.empty();
+        }
+        deleteReplacedImage(previousProduct.getImageId(), product);
+        return Optional.of(product);
+    }
+
+    @Override
+    public Optional<Product> partialUpdate(Product product) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("title", product.getTitle());
+        fields.put("price", product.getPrice());
+        fields.put("image", product.getImage());
+        fields.put("imageContentType", product.getImageContentType());
+
+        Set<ConstraintViolation<Product>> violations = new HashSet<>();
+        fields.forEach((field, value) -> {
+            if (value != null) {
+                // The document is not saved as a whole, so the set fields are validated here instead of by ValidatingMongoEventListener
+                violations.addAll(validator.validateProperty(product, field));
+            }
+        });
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        Update update = new Update();
+        fields.forEach((field, value) -> {
+            if (value != null && !"image".equals(field)) {
+                update.set(field, value);
+            }
+        });
+        String currentImageId = null;
+        if (product.getImage() != null) {
+            currentImageId = findImageId(product.getId());
+            product.setImageId(productImageStore.store(product.getImage(), product.getImageContentType(), currentImageId));
+            update.set("imageId", product.getImageId());
+        }
+        if (update.getUpdateObject().isEmpty()) {
+            return Optional.ofNullable(mongoTemplate.findById(product.getId(), Product.class));
+        }
+
+        // The previous document is returned, so that a replaced image can be deleted, and the update is applied to it
+        Product previousProduct;
+        try {
+            previousProduct = mongoTemplate.findAndModify(byId(product.getId()), update, Product.class);
+        } catch (RuntimeException e) {
+            deleteUploadedImage(currentImageId, product);
+            throw e;
+        }
+        if (previousProduct == null) {
+            deleteUploadedImage(currentImageId, product);
+            return Optional.empty();
+        }
+        if (product.getImageId() != null) {
+            deleteReplacedImage(previousProduct.getImageId(), product);
+        }
+        Product updatedProduct = new Product()
+            .id(previousProduct.getId())
+            .title(product.getTitle() != null ? product.getTitle() : previousProduct.getTitle())
+            .price(product.getPrice() != null ? product.getPrice() : previousProduct.getPrice())
+            .image(product.getImage())
+            .imageContentType(product.getImageContentType() != null ? product.getImageContentType() : previousProduct.getImageContentType())
+            .imageId(product.getImageId() != null ? product.getImageId() : previousProduct.getImageId());
+        return Optional.of(updatedProduct);
+    }
+
+    @Override
+    public ProductBulkWriteResult bulkWrite(List<Product> products) {
+        // The current images are read first, so that ProductImageCallback keeps the ones which didn't change
+        List<String> ids = products.stream().map(Product::getId).filter(Objects::nonNull).toList();
+        Map<String, String> previousImageIds = new HashMap<>();
+        if (!ids.isEmpty()) {
+            Query query = query(where("id").in(ids).and("imageId").ne(null));
+            query.fields().include("imageId");
+            mongoTemplate.find(query, Product.class).forEach(product -> previousImageIds.put(product.getId(), product.getImageId()));
+        }
+
+        Map<Integer, String> errors = new TreeMap<>();
+        List<Integer> writtenIndexes = new ArrayList<>();
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            Set<ConstraintViolation<Product>> violations = validator.validate(product);
+            if (!violations.isEmpty()) {
+                errors.put(i, new ConstraintViolationException(violations).getMessage());
+                continue;
+            }
+            // The image bytes are moved to the image store by ProductImageCallback when the product is added
+            if (product.getId() == null) {
+                bulkOperations.insert(product);
+            } else {
+                useCurrentImage(product, previousImageIds.get(product.getId()));
+                bulkOperations.replaceOne(byId(product.getId()), product, FindAndReplaceOptions.options().upsert());
+            }
+            writtenIndexes.add(i);
+        }
+        if (writtenIndexes.isEmpty()) {
+            return new ProductBulkWriteResult(0, 0, errors);
+        }
+
+        BulkWriteResult result;
+        try {
+            result = bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            result = e.getResult();
+            e.getErrors().forEach(error -> errors.put(writtenIndexes.get(error.getIndex()), error.getMessage()));
+        }
+        for (int i : writtenIndexes) {
+            Product product = products.get(i);
+            if (errors.containsKey(i)) {
+                deleteUploadedImage(previousImageIds.get(product.getId()), product);
+            } else if (product.getId() != null) {
+                deleteReplacedImage(previousImageIds.get(product.getId()), product);
+            }
+        }
+        return new ProductBulkWriteResult(result.getInsertedCount() + result.getUpserts().size(), result.getMatchedCount(), errors);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        Product product = mongoTemplate.findAndRemove(byId(id), Product.class);
+        if (product != null) {
+            deleteStoredImage(product);
+        }
+    }
+
+    private void deleteStoredImage(Product product) {
+        if (product.getImageId() != null) {
+            productImageStore.delete(product.getImageId());
+        }
+    }
+
+    @Nullable
+    private String findImageId(String id) {
+        Query query = byId(id);
+        query.fields().include("imageId");
+        Product product = mongoTemplate.findOne(query, Product.class);
+        return product == null ? null : product.getImageId();
+    }
+
+    private static void useCurrentImage(Product product, @Nullable String currentImageId) {
+        // Lets ProductImageCallback keep the current image if the product carries the same one again
+        if (product.getImage() != null && product.getImageId() == null) {
+            product.setImageId(currentImageId);
+        }
+    }
+
+    private void deleteUploadedImage(@Nullable String currentImageId, Product product) {
+        if (product.getImageId() != null && !product.getImageId().equals(currentImageId)) {
+            productImageStore.delete(product.getImageId());
+        }
+    }
+
+    private void deleteReplacedImage(@Nullable String previousImageId, Product product) {
+        if (previousImageId != null && !previousImageId.equals(product.getImageId())) {
+            productImageStore.delete(previousImageId);
+        }
+    }
+
+    private static Criteria after(String property, Object value, boolean ascending) {
+        return ascending ? where(property).gt(value) : where(property).lt(value);
+    }
+
+    private static Object keyValue(String property, String key) {
+        // Prices are stored as decimals, so the key is compared as a decimal rather than as a string
+        return "price".equals(property) ? new Decimal128(new BigDecimal(key)) : key;
+    }
+
+    private static Query byId(String id) {
+        return query(where("id").is(id));
+    }
+
+    private static byte[] readImage(Resource image) {
+        try (InputStream inputStream = image.getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the product image", e);
+        }
+    }
+}
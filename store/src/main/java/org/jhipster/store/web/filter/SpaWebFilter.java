@@ -5,10 +5,20 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collection;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 public class SpaWebFilter extends OncePerRequestFilter {
 
+    private final SpaPathClassifier spaPathClassifier;
+
+    /**
+     * @param excludedPrefixes the path prefixes which are never forwarded, like {@code /api}.
+     */
+    public SpaWebFilter(Collection<String> excludedPrefixes) {
+        this.spaPathClassifier = new SpaPathClassifier(excludedPrefixes);
+    }
+
     /**
      * Forwards any unmapped paths (except those containing a period) to the client {@code index.html}.
      */
@@ -17,13 +27,7 @@ public class SpaWebFilter extends OncePerRequestFilter {
         throws ServletException, IOException {
         // Request URI includes the contextPath if any, removed it.
         String path = request.getRequestURI().substring(request.getContextPath().length());
-        if (
-            !path.startsWith("/api") &&
-            !path.startsWith("/management") &&
-            !path.startsWith("/v3/api-docs") &&
-            !path.contains(".") &&
-            path.matches("/(.*)")
-        ) {
+        if (spaPathClassifier.isClientRoute(path)) {
             request.getRequestDispatcher("/index.html").forward(request, response);
             return;
         }
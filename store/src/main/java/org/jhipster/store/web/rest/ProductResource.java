@@ -1,23 +1,44 @@
 package org.jhipster.store.web.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import org.jhipster.store.config.ApplicationProperties;
 import org.jhipster.store.domain.Product;
+import org.jhipster.store.repository.ProductBulkWriteResult;
+import org.jhipster.store.repository.ProductImageStore;
 import org.jhipster.store.repository.ProductRepository;
 import org.jhipster.store.web.rest.errors.BadRequestAlertException;
+import org.jhipster.store.web.rest.vm.ProductImportProgressVM;
+import org.jhipster.store.web.rest.vm.ProductImportProgressVM.ItemError;
+import org.jhipster.store.web.rest.vm.ProductSummaryVM;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -39,8 +60,22 @@ public class ProductResource {
 
     private final ProductRepository productRepository;
 
-    public ProductResource(ProductRepository productRepository) {
+    private final ProductImageStore productImageStore;
+
+    private final ObjectMapper objectMapper;
+
+    private final int importChunkSize;
+
+    public ProductResource(
+        ProductRepository productRepository,
+        ProductImageStore productImageStore,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
         this.productRepository = productRepository;
+        this.productImageStore = productImageStore;
+        this.objectMapper = objectMapper;
+        this.importChunkSize = applicationProperties.getProductImport().getChunkSize();
     }
 
     /**
@@ -62,6 +97,28 @@ public class ProductResource {
             .body(product);
     }
 
+    /**
+     * {@code POST  /products/bulk} : Import products, given as a JSON array or as newline delimited JSON.
+     * <p>
+     * Products are read as they are received and written in unordered bulk writes of a configurable number of products.
+     * Products without id are created, the others are created or updated with their id. A product which is not valid
+     * doesn't stop the import: its error is reported with its index, and the import goes on with the following products.
+     *
+     * @param body the products to import.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the progress of the import after each chunk
+     * as newline delimited JSON in body.
+     */
+    @PostMapping(
+        value = "/bulk",
+        consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE },
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> importProducts(InputStream body) {
+        LOG.debug("REST request to import Products");
+        StreamingResponseBody response = outputStream -> importProducts(body, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(response);
+    }
+
     /**
      * {@code PUT  /products/:id} : Updates an existing product.
      *
@@ -85,11 +142,9 @@ public class ProductResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!productRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        product = productRepository.save(product);
+        product = productRepository
+            .update(product)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
         return ResponseEntity.ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, product.getId()))
             .body(product);
@@ -119,29 +174,7 @@ public class ProductResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!productRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
-        }
-
-        Optional<Product> result = productRepository
-            .findById(product.getId())
-            .map(existingProduct -> {
-                if (product.getTitle() != null) {
-                    existingProduct.setTitle(product.getTitle());
-                }
-                if (product.getPrice() != null) {
-                    existingProduct.setPrice(product.getPrice());
-                }
-                if (product.getImage() != null) {
-                    existingProduct.setImage(product.getImage());
-                }
-                if (product.getImageContentType() != null) {
-                    existingProduct.setImageContentType(product.getImageContentType());
-                }
-
-                return existingProduct;
-            })
-            .map(productRepository::save);
+        Optional<Product> result = productRepository.partialUpdate(product);
 
         return ResponseUtil.wrapOrNotFound(result, HeaderUtil.createEntityUpdateAlert(applicationName, true, ENTITY_NAME, product.getId()));
     }
@@ -161,7 +194,65 @@ public class ProductResource {
     }
 
     /**
-     * {@code GET  /products/:id} : get the "id" product.
+     * {@code GET  /products?summary=true} : get all the products without their image, which is only referenced by its URL.
+     *
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of product summaries in body.
+     */
+    @GetMapping(value = "", params = "summary=true")
+    public ResponseEntity<List<ProductSummaryVM>> getAllProductSummaries(
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get a page of Product summaries");
+        Page<Product> page = productRepository.findAllSummaries(pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.map(ProductSummaryVM::of).getContent());
+    }
+
+    /**
+     * {@code GET  /products?after=:key,:id} : get the products following a given product.
+     * <p>
+     * Unlike a page number, the last product of the previous batch is found through the index of the sort property,
+     * so deep batches are read as fast as the first one. The next batch is given by the {@code Link} header.
+     *
+     * @param after the sort key and the id of the last product of the previous batch separated by a comma, or empty for the first batch.
+     * @param pageable the size of the batch and the sort property: {@code id}, {@code title} or {@code price}.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of products in body,
+     * or with status {@code 400 (Bad Request)} if the sort property or the cursor is not valid.
+     */
+    @GetMapping(value = "", params = { "after", "summary!=true" })
+    public ResponseEntity<List<Product>> getAllProductsAfter(
+        @RequestParam("after") String after,
+        @org.springdoc.core.annotations.ParameterObject Pageable pageable
+    ) {
+        LOG.debug("REST request to get Products after : {}", after);
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        String afterKey = null;
+        String afterId = null;
+        if (!after.isEmpty()) {
+            // Titles may contain commas, ids don't
+            int separator = after.lastIndexOf(',');
+            afterKey = separator < 0 ? null : after.substring(0, separator);
+            afterId = after.substring(separator + 1);
+        }
+        List<Product> products;
+        try {
+            products = productRepository.findAllAfter(order, afterKey, afterId, pageable.getPageSize());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid sort property or cursor", ENTITY_NAME, "invalidcursor");
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (products.size() == pageable.getPageSize()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("after", cursor(order.getProperty(), products.get(products.size() - 1)))
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(products);
+    }
+
+    /**
+     * {@code GET  /products/:id} : get the "id" product, with its image.
      *
      * @param id the id of the product to retrieve.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the product, or with status {@code 404 (Not Found)}.
@@ -169,10 +260,76 @@ public class ProductResource {
     @GetMapping("/{id}")
     public ResponseEntity<Product> getProduct(@PathVariable("id") String id) {
         LOG.debug("REST request to get Product : {}", id);
-        Optional<Product> product = productRepository.findById(id);
+        Optional<Product> product = productRepository.findOneWithImage(id);
         return ResponseUtil.wrapOrNotFound(product);
     }
 
+    /**
+     * {@code GET  /products/:id/image} : stream the image of the "id" product.
+     * <p>
+     * The id of the stored image is used as {@code ETag}, and a single byte range can be requested.
+     *
+     * @param id the id of the product.
+     * @param requestHeaders the headers of the request.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the image,
+     * or with status {@code 206 (Partial Content)} and with body the requested range,
+     * or with status {@code 304 (Not Modified)} if the image matches the {@code If-None-Match} header,
+     * or with status {@code 404 (Not Found)} if the product has no image,
+     * or with status {@code 416 (Range Not Satisfiable)} if the requested range is outside of the image.
+     */
+    @GetMapping("/{id}/image")
+    public ResponseEntity<StreamingResponseBody> getProductImage(@PathVariable("id") String id, @RequestHeader HttpHeaders requestHeaders)
+        throws IOException {
+        LOG.debug("REST request to get the image of Product : {}", id);
+        Product product = productRepository.findById(id).orElse(null);
+        Resource image = product == null || product.getImageId() == null
+            ? null
+            : productImageStore.find(product.getImageId()).orElse(null);
+        if (image == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String eTag = "\"" + product.getImageId() + "\"";
+        if (requestHeaders.getIfNoneMatch().contains(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
+        long length = image.contentLength();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(eTag);
+        headers.setCacheControl(CacheControl.noCache());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        String contentType = product.getImageContentType();
+        headers.setContentType(contentType != null ? MediaType.parseMediaType(contentType) : MediaType.APPLICATION_OCTET_STREAM);
+
+        long start;
+        long end;
+        try {
+            List<HttpRange> ranges = requestHeaders.getRange();
+            if (ranges.size() != 1) {
+                // Multiple ranges are not supported, the whole image is sent instead as allowed by RFC 9110
+                headers.setContentLength(length);
+                return ResponseEntity.ok().headers(headers).body(outputStream -> copyRange(image, outputStream, 0, length - 1));
+            }
+            start = ranges.get(0).getRangeStart(length);
+            end = ranges.get(0).getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + length)
+                .build();
+        }
+        headers.setContentLength(end - start + 1);
+        headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+            .headers(headers)
+            .body(outputStream -> copyRange(image, outputStream, start, end));
+    }
+
+    private static void copyRange(Resource resource, OutputStream outputStream, long start, long end) throws IOException {
+        try (InputStream inputStream = resource.getInputStream()) {
+            StreamUtils.copyRange(inputStream, outputStream, start, end);
+        }
+    }
+
     /**
      * {@code DELETE  /products/:id} : delete the "id" product.
      *
@@ -185,4 +342,64 @@ public class ProductResource {
         productRepository.deleteById(id);
         return ResponseEntity.noContent().headers(HeaderUtil.createEntityDeletionAlert(applicationName, true, ENTITY_NAME, id)).build();
     }
+
+    private void importProducts(InputStream body, OutputStream outputStream) throws IOException {
+        int processed = 0;
+        int created = 0;
+        int updated = 0;
+        int failed = 0;
+        List<Product> chunk = new ArrayList<>(importChunkSize);
+        List<ItemError> errors = new ArrayList<>();
+        boolean unreadable = false;
+        // A JSON array is read element by element, like newline delimited JSON
+        try (MappingIterator<Product> products = objectMapper.readerFor(Product.class).readValues(body)) {
+            boolean readable = true;
+            while (readable) {
+                try {
+                    readable = products.hasNextValue();
+                    if (readable) {
+                        chunk.add(products.nextValue());
+                    }
+                } catch (JsonProcessingException e) {
+                    // The position in the input is lost, the following products can't be read
+                    errors.add(new ItemError(processed + chunk.size(), e.getOriginalMessage()));
+                    unreadable = true;
+                    readable = false;
+                }
+                if (chunk.size() == importChunkSize || (!readable && !chunk.isEmpty())) {
+                    ProductBulkWriteResult result = productRepository.bulkWrite(chunk);
+                    int chunkStart = processed;
+                    result.errors().forEach((index, message) -> errors.add(new ItemError(chunkStart + index, message)));
+                    processed += chunk.size();
+                    created += result.created();
+                    updated += result.updated();
+                    failed += result.errors().size();
+                    chunk.clear();
+                    if (readable) {
+                        writeProgress(outputStream, new ProductImportProgressVM(processed, created, updated, failed, errors, false));
+                        errors.clear();
+                    }
+                }
+            }
+        }
+        if (unreadable) {
+            processed++;
+            failed++;
+        }
+        writeProgress(outputStream, new ProductImportProgressVM(processed, created, updated, failed, errors, true));
+    }
+
+    private void writeProgress(OutputStream outputStream, ProductImportProgressVM progress) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(progress));
+        outputStream.write('\n');
+        outputStream.flush();
+    }
+
+    private static String cursor(String property, Product product) {
+        return switch (property) {
+            case "title" -> product.getTitle() + "," + product.getId();
+            case "price" -> product.getPrice().toPlainString() + "," + product.getId();
+            default -> product.getId();
+        };
+    }
 }
@@ -0,0 +1,23 @@
+package org.jhipster.store.web.rest.vm;
+
+import java.util.List;
+
+/**
+ * View Model reporting the progress of a product import, after each written chunk.
+ *
+ * @param processed the number of products read so far.
+ * @param created the number of products created so far.
+ * @param updated the number of products updated so far.
+ * @param failed the number of products which couldn't be imported so far.
+ * @param errors the errors of the products of the last chunk.
+ * @param done whether the import is over.
+ */
+public record ProductImportProgressVM(int processed, int created, int updated, int failed, List<ItemError> errors, boolean done) {
+    /**
+     * Error of an imported product.
+     *
+     * @param index the index of the product in the import, starting at 0.
+     * @param message the reason why the product wasn't imported.
+     */
+    public record ItemError(int index, String message) {}
+}
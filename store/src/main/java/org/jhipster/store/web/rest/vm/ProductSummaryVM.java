@@ -0,0 +1,27 @@
+package org.jhipster.store.web.rest.vm;
+
+import java.math.BigDecimal;
+import org.jhipster.store.domain.Product;
+
+/**
+ * View Model listing a product without its image, which is only referenced by its URL.
+ *
+ * @param id the id of the product.
+ * @param title the title of the product.
+ * @param price the price of the product.
+ * @param imageContentType the content type of the image of the product.
+ * @param imageUrl the URL of the image of the product, relative to the base path the store is reached through
+ * (such as {@code services/store/} behind the gateway), or {@code null} if it has no image.
+ */
+public record ProductSummaryVM(String id, String title, BigDecimal price, String imageContentType, String imageUrl) {
+    /**
+     * Creates the view model of a product.
+     *
+     * @param product the product, which may only carry the fields of the summary.
+     * @return the view model.
+     */
+    public static ProductSummaryVM of(Product product) {
+        String imageUrl = product.getImageId() == null ? null : "api/products/" + product.getId() + "/image";
+        return new ProductSummaryVM(product.getId(), product.getTitle(), product.getPrice(), product.getImageContentType(), imageUrl);
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Rest layer visual models.
+ */
+package org.jhipster.store.web.rest.vm;
@@ -1,7 +1,7 @@
 import React, { useEffect, useState } from 'react';
 import { Link, useLocation, useNavigate } from 'react-router-dom';
 import { Button, Table } from 'reactstrap';
-import { JhiItemCount, JhiPagination, Translate, byteSize, getPaginationState, openFile } from 'react-jhipster';
+import { JhiItemCount, JhiPagination, Translate, getPaginationState } from 'react-jhipster';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 import { faSort, faSortDown, faSortUp } from '@fortawesome/free-solid-svg-icons';
 import { ASC, DESC, ITEMS_PER_PAGE, SORT } from 'app/shared/util/pagination.constants';
@@ -138,17 +138,13 @@ export const Product = () => {
                   <td>{product.title}</td>
                   <td>{product.price}</td>
                   <td>
-                    {product.image ? (
+                    {product.imageId ? (
                       <div>
-                        {product.imageContentType ? (
-                          <a onClick={openFile(product.imageContentType, product.image)}>
-                            <img src={`data:${product.imageContentType};base64,${product.image}`} style={{ maxHeight: '30px' }} />
-                            &nbsp;
-                          </a>
-                        ) : null}
-                        <span>
-                          {product.imageContentType}, {byteSize(product.image)}
-                        </span>
+                        <a href={`services/store/api/products/${product.id}/image`} target="_blank" rel="noopener noreferrer">
+                          <img src={`services/store/api/products/${product.id}/image`} style={{ maxHeight: '30px' }} />
+                          &nbsp;
+                        </a>
+                        <span>{product.imageContentType}</span>
                       </div>
                     ) : null}
                   </td>
@@ -4,6 +4,7 @@ export interface IProduct {
   price?: number;
   imageContentType?: string | null;
   image?: string | null;
+  imageId?: string | null;
 }
 
 export const defaultValue: Readonly<IProduct> = {};
@@ -0,0 +1,43 @@
+package org.jhipster.store.web.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link SpaPathClassifier} class, with the prefixes excluded by this service.
+ */
+class SpaPathClassifierTest {
+
+    private final SpaPathClassifier classifier = new SpaPathClassifier(List.of("/api", "/management", "/v3/api-docs"));
+
+    @Test
+    void testClientRoutes() {
+        assertThat(classifier.isClientRoute("/")).isTrue();
+        assertThat(classifier.isClientRoute("/first-level")).isTrue();
+        assertThat(classifier.isClientRoute("/1/2/3/4/5/6/7/8/9/10")).isTrue();
+        assertThat(classifier.isClientRoute("/ap")).isTrue();
+        assertThat(classifier.isClientRoute("/v3")).isTrue();
+        assertThat(classifier.isClientRoute("/product")).isTrue();
+    }
+
+    @Test
+    void testExcludedPrefixes() {
+        assertThat(classifier.isClientRoute("/api")).isFalse();
+        assertThat(classifier.isClientRoute("/api/account")).isFalse();
+        assertThat(classifier.isClientRoute("/api/products")).isFalse();
+        assertThat(classifier.isClientRoute("/apiary")).isFalse();
+        assertThat(classifier.isClientRoute("/management/health")).isFalse();
+        assertThat(classifier.isClientRoute("/v3/api-docs")).isFalse();
+    }
+
+    @Test
+    void testFilesAndRelativePaths() {
+        assertThat(classifier.isClientRoute("")).isFalse();
+        assertThat(classifier.isClientRoute("first-level")).isFalse();
+        assertThat(classifier.isClientRoute("/foo.js")).isFalse();
+        assertThat(classifier.isClientRoute("/foo/another/bar.js")).isFalse();
+        assertThat(classifier.isClientRoute("/foo\nbar")).isFalse();
+    }
+}
@@ -1,7 +1,10 @@
 package org.jhipster.store.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.jhipster.store.domain.ProductAsserts.*;
 import static org.jhipster.store.web.rest.TestUtil.createUpdateProxyForBean;
 import static org.jhipster.store.web.rest.TestUtil.sameNumber;
@@ -10,8 +13,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolationException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 import org.jhipster.store.IntegrationTest;
 import org.jhipster.store.domain.Product;
@@ -21,9 +28,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * Integration tests for the {@link ProductResource} REST controller.
@@ -53,6 +64,9 @@ class ProductResourceIT {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private GridFsTemplate gridFsTemplate;
+
     @Autowired
     private MockMvc restProductMockMvc;
 
@@ -114,6 +128,46 @@ class ProductResourceIT {
         insertedProduct = returnedProduct;
     }
 
+    @Test
+    void importProducts() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.save(product);
+        String importedTitle = UUID.randomUUID().toString();
+
+        // Import a new product, an invalid product and an update of the existing product
+        Product newProduct = createEntity().title(importedTitle).image(null).imageContentType(null);
+        Product invalidProduct = createEntity().title(importedTitle).price(new BigDecimal(-1));
+        Product updatedProduct = createUpdatedEntity().id(product.getId());
+        String body = String.join(
+            "\n",
+            om.writeValueAsString(newProduct),
+            om.writeValueAsString(invalidProduct),
+            om.writeValueAsString(updatedProduct)
+        );
+
+        MvcResult mvcResult = restProductMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").with(csrf()).contentType(MediaType.APPLICATION_NDJSON).content(body))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        try {
+            restProductMockMvc
+                .perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(3))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors.[0].index").value(1))
+                .andExpect(jsonPath("$.done").value(true));
+
+            // Validate the Product in the database
+            assertProductUpdatableFieldsEquals(updatedProduct, getPersistedProduct(updatedProduct));
+            assertThat(productRepository.findAll()).filteredOn(p -> importedTitle.equals(p.getTitle())).hasSize(1);
+        } finally {
+            productRepository.deleteAll(productRepository.findAll().stream().filter(p -> importedTitle.equals(p.getTitle())).toList());
+        }
+    }
+
     @Test
     void createProductWithExistingId() throws Exception {
         // Create the Product with an existing ID
@@ -174,7 +228,119 @@ class ProductResourceIT {
             .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
             .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))))
             .andExpect(jsonPath("$.[*].imageContentType").value(hasItem(DEFAULT_IMAGE_CONTENT_TYPE)))
-            .andExpect(jsonPath("$.[*].image").value(hasItem(Base64.getEncoder().encodeToString(DEFAULT_IMAGE))));
+            .andExpect(jsonPath("$.[*].imageId").value(hasItem(product.getImageId())))
+            .andExpect(jsonPath("$.[*].image").value(not(hasItem(Base64.getEncoder().encodeToString(DEFAULT_IMAGE)))));
+    }
+
+    @Test
+    void getAllProductsAsSummary() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.save(product);
+
+        // Get all the productList as summaries
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&summary=true"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(product.getId())))
+            .andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)))
+            .andExpect(jsonPath("$.[*].price").value(hasItem(sameNumber(DEFAULT_PRICE))))
+            .andExpect(jsonPath("$.[*].imageContentType").value(hasItem(DEFAULT_IMAGE_CONTENT_TYPE)))
+            .andExpect(jsonPath("$.[*].imageUrl").value(hasItem("api/products/" + product.getId() + "/image")))
+            .andExpect(jsonPath("$.[*].image").doesNotExist())
+            .andExpect(jsonPath("$.[*].imageId").doesNotExist());
+    }
+
+    @Test
+    void getAllProductsAfter() throws Exception {
+        // Initialize the database with products more expensive than the ones of the other tests
+        Product first = productRepository.save(createEntity().price(new BigDecimal("1000003")));
+        Product second = productRepository.save(createEntity().price(new BigDecimal("1000002")));
+        Product third = productRepository.save(createEntity().price(new BigDecimal("1000001")));
+
+        try {
+            // Get the first batch
+            restProductMockMvc
+                .perform(get(ENTITY_API_URL + "?after=&sort=price,desc&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(first.getId()))
+                .andExpect(jsonPath("$.[1].id").value(second.getId()))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("after=1000002," + second.getId())));
+
+            // Get the next batch, which starts after the last product of the first one
+            restProductMockMvc
+                .perform(get(ENTITY_API_URL + "?after=1000002," + second.getId() + "&sort=price,desc&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(third.getId()));
+
+            // A cursor without the sort key doesn't restart from the first batch
+            restProductMockMvc
+                .perform(get(ENTITY_API_URL + "?after=" + second.getId() + "&sort=price,desc&size=2"))
+                .andExpect(status().isBadRequest());
+
+            // Products can't be read after a property which isn't indexed
+            restProductMockMvc.perform(get(ENTITY_API_URL + "?after=&sort=imageContentType,asc")).andExpect(status().isBadRequest());
+        } finally {
+            productRepository.deleteAll(List.of(first, second, third));
+        }
+    }
+
+    @Test
+    void getProductAfterUpdate() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.save(product);
+
+        // Read the product and the productList, which are then cached
+        assertThat(productRepository.findById(product.getId())).hasValueSatisfying(p -> assertThat(p.getTitle()).isEqualTo(DEFAULT_TITLE));
+        restProductMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andExpect(jsonPath("$.[*].title").value(hasItem(DEFAULT_TITLE)));
+
+        // Update the product, the cached product and productList must not be returned anymore
+        restProductMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, product.getId())
+                    .with(csrf())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(new Product().id(product.getId()).title(UPDATED_TITLE)))
+            )
+            .andExpect(status().isOk());
+        assertThat(productRepository.findById(product.getId())).hasValueSatisfying(p -> assertThat(p.getTitle()).isEqualTo(UPDATED_TITLE));
+        restProductMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andExpect(jsonPath("$.[*].title").value(hasItem(UPDATED_TITLE)));
+    }
+
+    @Test
+    void getProductImage() throws Exception {
+        // Initialize the database
+        product.image(TestUtil.createByteArray(10, "1"));
+        insertedProduct = productRepository.save(product);
+        String eTag = "\"" + product.getImageId() + "\"";
+
+        // Get the whole image
+        MvcResult mvcResult = restProductMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/image", product.getId()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restProductMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(DEFAULT_IMAGE_CONTENT_TYPE))
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().bytes(product.getImage()));
+
+        // Get a range of the image
+        mvcResult = restProductMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/image", product.getId()).header(HttpHeaders.RANGE, "bytes=2-4"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restProductMockMvc
+            .perform(asyncDispatch(mvcResult))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-4/10"))
+            .andExpect(content().bytes(Arrays.copyOfRange(product.getImage(), 2, 5)));
+
+        // Revalidate the image
+        restProductMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/image", product.getId()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
     }
 
     @Test
@@ -225,6 +391,40 @@ class ProductResourceIT {
         assertPersistedProductToMatchAllProperties(updatedProduct);
     }
 
+    @Test
+    void putUnchangedImageKeepsStoredImage() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.save(product);
+        String imageId = insertedProduct.getImageId();
+        long imageCountBeforeUpdate = getImageCount();
+
+        // Update the product with the same image
+        Product updatedProduct = productRepository.findById(product.getId()).orElseThrow();
+        updatedProduct.title(UPDATED_TITLE).image(DEFAULT_IMAGE).imageContentType(DEFAULT_IMAGE_CONTENT_TYPE);
+
+        restProductMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedProduct.getId())
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(om.writeValueAsBytes(updatedProduct))
+            )
+            .andExpect(status().isOk());
+
+        assertThat(getPersistedProduct(product).getImageId()).isEqualTo(imageId);
+        assertThat(getImageCount()).isEqualTo(imageCountBeforeUpdate);
+    }
+
+    @Test
+    void saveInvalidProductDoesNotStoreImage() {
+        long imageCountBefore = getImageCount();
+        product.setTitle(null);
+
+        assertThatThrownBy(() -> productRepository.save(product)).isInstanceOf(ConstraintViolationException.class);
+
+        assertThat(getImageCount()).isEqualTo(imageCountBefore);
+    }
+
     @Test
     void putNonExistingProduct() throws Exception {
         long databaseSizeBeforeUpdate = getRepositoryCount();
@@ -305,6 +505,31 @@ class ProductResourceIT {
         assertProductUpdatableFieldsEquals(createUpdateProxyForBean(partialUpdatedProduct, product), getPersistedProduct(product));
     }
 
+    @Test
+    void patchPriceOnlyLeavesImageUntouched() throws Exception {
+        // Initialize the database
+        insertedProduct = productRepository.save(product);
+
+        Product partialUpdatedProduct = new Product();
+        partialUpdatedProduct.setId(product.getId());
+        partialUpdatedProduct.price(UPDATED_PRICE);
+
+        restProductMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedProduct.getId())
+                    .with(csrf())
+                    .contentType("application/merge-patch+json")
+                    .content(om.writeValueAsBytes(partialUpdatedProduct))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.price").value(sameNumber(UPDATED_PRICE)))
+            .andExpect(jsonPath("$.image").doesNotExist());
+
+        Product persistedProduct = getPersistedProduct(product);
+        assertThat(persistedProduct.getPrice()).isEqualByComparingTo(UPDATED_PRICE);
+        assertThat(persistedProduct.getImage()).isEqualTo(DEFAULT_IMAGE);
+    }
+
     @Test
     void fullUpdateProductWithPatch() throws Exception {
         // Initialize the database
@@ -338,7 +563,7 @@ class ProductResourceIT {
         long databaseSizeBeforeUpdate = getRepositoryCount();
         product.setId(UUID.randomUUID().toString());
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
+        // If the entity doesn't exist, nothing is updated
         restProductMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, product.getId())
@@ -346,7 +571,7 @@ class ProductResourceIT {
                     .contentType("application/merge-patch+json")
                     .content(om.writeValueAsBytes(product))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Product in the database
         assertSameRepositoryCount(databaseSizeBeforeUpdate);
@@ -405,6 +630,10 @@ class ProductResourceIT {
         return productRepository.count();
     }
 
+    protected long getImageCount() {
+        return gridFsTemplate.find(new Query()).into(new ArrayList<>()).size();
+    }
+
     protected void assertIncrementedRepositoryCount(long countBefore) {
         assertThat(countBefore + 1).isEqualTo(getRepositoryCount());
     }
@@ -418,7 +647,7 @@ class ProductResourceIT {
     }
 
     protected Product getPersistedProduct(Product product) {
-        return productRepository.findById(product.getId()).orElseThrow();
+        return productRepository.findOneWithImage(product.getId()).orElseThrow();
     }
 
     protected void assertPersistedProductToMatchAllProperties(Product expectedProduct) {